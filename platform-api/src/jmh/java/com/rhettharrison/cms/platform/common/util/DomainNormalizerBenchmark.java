@@ -0,0 +1,52 @@
+package com.rhettharrison.cms.platform.common.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Memoized and uncached DomainNormalizer against the original implementation. Each call uses a
+ * fresh String copy, as a servlet container hands out a new header value per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainNormalizerBenchmark {
+
+  @Param({"default.yourblog.com", "Blog.Example.COM:8080", "münich.example.com"})
+  public String host;
+
+  private char[] chars;
+
+  @Setup
+  public void setup() {
+    chars = host.toCharArray();
+  }
+
+  @Benchmark
+  public String memoized() {
+    return DomainNormalizer.normalizeHostHeader(new String(chars));
+  }
+
+  @Benchmark
+  public String uncached() {
+    return DomainNormalizer.normalizeUncached(new String(chars));
+  }
+
+  @Benchmark
+  public String legacy() {
+    return LegacyDomainNormalizer.normalizeHostHeader(new String(chars));
+  }
+}
@@ -0,0 +1,39 @@
+package com.rhettharrison.cms.platform.common.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Current PathNormalizer against the original regex/split implementation. Run with -prof gc to
+ * compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathNormalizerBenchmark {
+
+  @Param({"/", "/blog/2026/hello-world", "Blog//2026/./Hello-World/", "\\a\\b\\..\\c\\"})
+  public String path;
+
+  @Benchmark
+  public String current() {
+    return PathNormalizer.normalize(path);
+  }
+
+  @Benchmark
+  public String legacy() {
+    return LegacyPathNormalizer.normalize(path);
+  }
+}
@@ -0,0 +1,60 @@
+package com.rhettharrison.cms.platform.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Token issue and verification cost. verifyCached measures the per-request path of
+ * JwtAuthenticationFilter for a token that has been seen before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+  private JwtService jwtService;
+  private VerifiedTokenCache verifiedTokenCache;
+  private UUID tenantId;
+  private String token;
+
+  @Setup
+  public void setup() {
+    jwtService = new JwtService("benchmark-secret-benchmark-secret", "platform-api", 3600);
+    tenantId = UUID.randomUUID();
+    token = jwtService.issueToken(tenantId, "admin", List.of("ROLE_ADMIN"));
+    verifiedTokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(15));
+    verifiedTokenCache.verify(token);
+  }
+
+  @Benchmark
+  public String issueToken() {
+    return jwtService.issueToken(tenantId, "admin", List.of("ROLE_ADMIN"));
+  }
+
+  @Benchmark
+  public DecodedJWT verify() {
+    return jwtService.verify(token);
+  }
+
+  @Benchmark
+  public VerifiedToken verifyCached() {
+    return verifiedTokenCache.verify(token);
+  }
+}
@@ -0,0 +1,101 @@
+package com.rhettharrison.cms.platform.web.controller;
+
+import com.rhettharrison.cms.platform.PlatformApiApplication;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.web.mapper.ScreenJsonWriter;
+import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Cache-miss cost of a public screen read: entity load, mapping and Jackson serialization against the
+ * response JSON built by Postgres. Runs the application against a Testcontainers Postgres, so Docker
+ * is required.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicScreenReadBenchmark {
+
+  private static final String PATH = "/blog/hello-world";
+
+  @Param({"128", "65536"})
+  public int markdownChars;
+
+  private PostgreSQLContainer<?> postgres;
+  private ConfigurableApplicationContext context;
+  private ScreenRepository screenRepository;
+  private ScreenBulkRepository screenBulkRepository;
+  private ScreenMapper screenMapper;
+  private UUID tenantId;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    postgres = new PostgreSQLContainer<>("postgres:16");
+    postgres.start();
+    context = new SpringApplicationBuilder(PlatformApiApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=" + postgres.getJdbcUrl(),
+            "spring.datasource.username=" + postgres.getUsername(),
+            "spring.datasource.password=" + postgres.getPassword())
+        .run();
+    screenRepository = context.getBean(ScreenRepository.class);
+    screenBulkRepository = context.getBean(ScreenBulkRepository.class);
+    screenMapper = context.getBean(ScreenMapper.class);
+
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    tenantId = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE slug = 'default'", UUID.class);
+    // JSON-escaped sentence (quotes and a line break), repeated to roughly markdownChars
+    String sentence = "Some \\\"quoted\\\" body text, with a line break.\\n";
+    String markdown = sentence.repeat(markdownChars / sentence.length() + 1);
+    jdbcTemplate.update("""
+        INSERT INTO screens (tenant_id, path, type, content, status, published_at)
+        VALUES (?, ?, 'MARKDOWN', ?::jsonb, 'PUBLISHED', ?)
+        """, tenantId, PATH, "{\"markdown\":\"" + markdown + "\"}",
+        Timestamp.from(Instant.now()));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public byte[] entityPath() {
+    return TenantContext.callWith(tenantId, () -> ScreenJsonWriter.toJsonBytes(screenMapper.toDto(
+        screenRepository.findByPathAndStatus(PATH, ScreenStatus.PUBLISHED).orElseThrow())));
+  }
+
+  @Benchmark
+  public byte[] sqlJsonPath() {
+    return TenantContext.callWith(tenantId,
+        () -> screenBulkRepository.findPublishedJson(tenantId, PATH).orElseThrow().body());
+  }
+}
@@ -0,0 +1,47 @@
+package com.rhettharrison.cms.platform.web.error;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseWriterBenchmark {
+
+  @Setup
+  public void setup() {
+    TenantContext.setTenantId(UUID.randomUUID());
+    MDC.put("requestId", UUID.randomUUID().toString());
+  }
+
+  @TearDown
+  public void tearDown() {
+    TenantContext.clear();
+    MDC.clear();
+  }
+
+  @Benchmark
+  public MockHttpServletResponse write() throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    ErrorResponseWriter.write(response, 404, "TENANT_NOT_FOUND", "Tenant not found");
+    return response;
+  }
+}
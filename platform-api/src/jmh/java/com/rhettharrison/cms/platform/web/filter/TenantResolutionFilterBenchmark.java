@@ -0,0 +1,84 @@
+package com.rhettharrison.cms.platform.web.filter;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantResolutionCache;
+import com.rhettharrison.cms.platform.domain.model.TenantDomain;
+import com.rhettharrison.cms.platform.domain.model.TenantDomainRepository;
+import com.rhettharrison.cms.platform.domain.model.TenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Steady-state cost of tenant resolution per request: Host normalization plus a resolution cache
+ * hit (known host) or negative-cache hit and error body (unknown host). Repositories are stub-only
+ * mocks so invocations are not recorded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantResolutionFilterBenchmark {
+
+  private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+  @Param({"default.yourblog.com", "unknown.example.com"})
+  public String host;
+
+  private TenantResolutionFilter filter;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setup() {
+    TenantRepository tenantRepository = mock(TenantRepository.class, withSettings().stubOnly());
+    TenantDomainRepository tenantDomainRepository = mock(TenantDomainRepository.class, withSettings().stubOnly());
+    Environment environment = mock(Environment.class, withSettings().stubOnly());
+    when(environment.getActiveProfiles()).thenReturn(new String[]{"prod"});
+    when(tenantRepository.findBySlug("unknown")).thenReturn(Optional.empty());
+    when(tenantDomainRepository.findByDomain("unknown.example.com")).thenReturn(Optional.empty());
+
+    // The entity's no-arg constructor is JPA-only, so the row is a stub like the repositories
+    TenantDomain domain = mock(TenantDomain.class, withSettings().stubOnly());
+    UUID tenantId = UUID.randomUUID();
+    when(domain.getTenantId()).thenReturn(tenantId);
+    when(domain.getDomain()).thenReturn("default.yourblog.com");
+    when(tenantDomainRepository.findByDomain("default.yourblog.com")).thenReturn(Optional.of(domain));
+
+    TenantResolutionCache cache = new TenantResolutionCache(1000, Duration.ofMinutes(5), Duration.ofSeconds(30), new SimpleMeterRegistry());
+    filter = new TenantResolutionFilter(tenantRepository, tenantDomainRepository, environment, cache);
+
+    request = new MockHttpServletRequest("GET", "/api/v1/screens");
+    request.addHeader("Host", host);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilterInternal(request, response, NOOP_CHAIN);
+    return response;
+  }
+}
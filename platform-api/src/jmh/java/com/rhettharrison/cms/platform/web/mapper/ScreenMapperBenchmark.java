@@ -0,0 +1,56 @@
+package com.rhettharrison.cms.platform.web.mapper;
+
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreenMapperBenchmark {
+
+  private ScreenMapper screenMapper;
+  private Screen screen;
+
+  @Setup
+  public void setup() {
+    screenMapper = Mappers.getMapper(ScreenMapper.class);
+    screen = new Screen();
+    screen.setId(UUID.randomUUID());
+    screen.setPath("/blog/hello-world");
+    screen.setType(ScreenType.MARKDOWN);
+    screen.setStatus(ScreenStatus.PUBLISHED);
+    screen.setContent("{\"markdown\":\"# Hello\\n\\nSome body text.\"}");
+    screen.setPublishedAt(Instant.now());
+    screen.setCreatedAt(Instant.now());
+    screen.setUpdatedAt(Instant.now());
+  }
+
+  @Benchmark
+  public ScreenDto toDto() {
+    return screenMapper.toDto(screen);
+  }
+
+  @Benchmark
+  public byte[] toJsonBytes() {
+    return ScreenJsonWriter.toJsonBytes(screenMapper.toDto(screen));
+  }
+}
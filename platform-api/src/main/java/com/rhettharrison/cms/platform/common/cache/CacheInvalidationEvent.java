@@ -0,0 +1,49 @@
+package com.rhettharrison.cms.platform.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cross-node cache invalidation message, published as a Spring application event.
+ * SCREEN keys are normalized paths and ids the changed screens' ids (V13); DOMAIN keys are
+ * normalized domains; TENANT drops everything cached for the tenant and ALL drops every cache (used
+ * when notifications may have been missed).
+ */
+public record CacheInvalidationEvent(Scope scope, UUID tenantId, List<String> keys, List<UUID> ids) {
+
+  public enum Scope { SCREEN, DOMAIN, TENANT, ALL }
+
+  public CacheInvalidationEvent(Scope scope, UUID tenantId, List<String> keys) {
+    this(scope, tenantId, keys, List.of());
+  }
+
+  public static CacheInvalidationEvent all() {
+    return new CacheInvalidationEvent(Scope.ALL, null, List.of());
+  }
+
+  /**
+   * Parses the JSON payload produced by the V9 notify triggers (ids since V13).
+   */
+  public static CacheInvalidationEvent fromPayload(ObjectMapper mapper, String payload) throws IOException {
+    JsonNode node = mapper.readTree(payload);
+    Scope scope = Scope.valueOf(node.path("scope").asText());
+    UUID tenantId = node.hasNonNull("tenantId") ? UUID.fromString(node.get("tenantId").asText()) : null;
+    List<String> keys = new ArrayList<>();
+    for (JsonNode key : node.path("keys")) {
+      if (!key.isNull()) {
+        keys.add(key.asText());
+      }
+    }
+    List<UUID> ids = new ArrayList<>();
+    for (JsonNode id : node.path("ids")) {
+      if (!id.isNull()) {
+        ids.add(UUID.fromString(id.asText()));
+      }
+    }
+    return new CacheInvalidationEvent(scope, tenantId, List.copyOf(keys), List.copyOf(ids));
+  }
+}
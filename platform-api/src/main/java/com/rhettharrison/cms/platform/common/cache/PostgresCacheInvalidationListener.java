@@ -0,0 +1,165 @@
+package com.rhettharrison.cms.platform.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Subscribes to the Postgres channel fed by the V9 and V12 triggers and republishes each
+ * notification as a CacheInvalidationEvent on this node. Uses its own connection outside the pool,
+ * since LISTEN state is per session. After a reconnect an ALL event is published because
+ * notifications sent while disconnected are lost. Does nothing when the datasource is not
+ * PostgreSQL (e.g. H2 in tests).
+ */
+@Component
+public class PostgresCacheInvalidationListener implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationListener.class);
+
+  // Not configurable: the trigger functions pg_notify this literal channel name
+  public static final String CHANNEL = "cache_invalidation";
+
+  private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final boolean enabled;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final Duration pollTimeout;
+  private final Duration reconnectBackoff;
+
+  private volatile boolean running;
+  private volatile Connection connection;
+  private Thread thread;
+
+  public PostgresCacheInvalidationListener(
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.cache-bus.enabled:true}") boolean enabled,
+      @Value("${spring.datasource.url:}") String url,
+      @Value("${spring.datasource.username:}") String username,
+      @Value("${spring.datasource.password:}") String password,
+      @Value("${app.cache-bus.poll-timeout:PT10S}") Duration pollTimeout,
+      @Value("${app.cache-bus.reconnect-backoff:PT1S}") Duration reconnectBackoff
+  ) {
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.pollTimeout = pollTimeout;
+    this.reconnectBackoff = reconnectBackoff;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || url == null || !url.startsWith("jdbc:postgresql:")) {
+      logger.info("Cache invalidation bus disabled (enabled={}, datasource is not PostgreSQL or not set)", enabled);
+      return;
+    }
+    running = true;
+    thread = Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(this::listenLoop);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    closeQuietly(connection);
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listenLoop() {
+    boolean reconnecting = false;
+    Duration backoff = reconnectBackoff;
+    while (running) {
+      try (Connection c = DriverManager.getConnection(url, username, password)) {
+        connection = c;
+        try (Statement statement = c.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        if (reconnecting) {
+          // Anything committed while we were disconnected was never delivered
+          eventPublisher.publishEvent(CacheInvalidationEvent.all());
+        }
+        logger.info("Listening for cache invalidations on channel '{}'", CHANNEL);
+        backoff = reconnectBackoff;
+        poll(c.unwrap(PGConnection.class), c);
+      } catch (SQLException e) {
+        if (!running) {
+          break;
+        }
+        logger.warn("Cache invalidation listener connection lost; retrying in {}: {}", backoff, e.getMessage());
+      } finally {
+        connection = null;
+      }
+      reconnecting = true;
+      if (!sleep(backoff)) {
+        break;
+      }
+      backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+    }
+  }
+
+  private void poll(PGConnection pgConnection, Connection c) throws SQLException {
+    int timeoutMillis = (int) pollTimeout.toMillis();
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+      if (notifications == null || notifications.length == 0) {
+        // Idle: round-trip so a half-open connection is detected instead of waiting forever
+        if (!c.isValid(5)) {
+          throw new SQLException("Listener connection is no longer valid");
+        }
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        dispatch(notification.getParameter());
+      }
+    }
+  }
+
+  private void dispatch(String payload) {
+    try {
+      eventPublisher.publishEvent(CacheInvalidationEvent.fromPayload(mapper, payload));
+    } catch (Exception e) {
+      logger.warn("Ignoring malformed cache invalidation payload: {}", payload, e);
+    }
+  }
+
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static void closeQuietly(Connection c) {
+    if (c == null) return;
+    try {
+      c.close();
+    } catch (SQLException ignored) {
+      // Closing only to unblock the listener thread
+    }
+  }
+}
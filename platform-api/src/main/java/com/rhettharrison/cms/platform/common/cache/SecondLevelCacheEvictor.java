@@ -0,0 +1,79 @@
+package com.rhettharrison.cms.platform.common.cache;
+
+import com.rhettharrison.cms.platform.domain.model.Tenant;
+import com.rhettharrison.cms.platform.domain.model.TenantDomain;
+import com.rhettharrison.cms.platform.domain.model.TenantDomainRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the Hibernate second-level and query caches (DISCRIMINATOR tenancy mode only) in step with
+ * writes Hibernate does not see: JDBC bulk imports, shard moves and other nodes. Screen events carry
+ * the changed ids, so only those screens leave the entity cache; domain events carry domains rather
+ * than ids, so the TenantDomain region is dropped whole. Cached query results cannot be addressed
+ * per tenant, so the affected repository's query region is dropped, as Hibernate's own table
+ * timestamps would for a write it made. TENANT and ALL flush everything.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tenancy.mode", havingValue = "discriminator")
+public class SecondLevelCacheEvictor {
+
+  private final SessionFactoryImplementor sessionFactory;
+  private final Cache cache;
+
+  public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    this.cache = sessionFactory.getCache();
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case SCREEN -> {
+        if (event.ids().isEmpty()) {
+          // Notification from before V13
+          cache.evictEntityData(Screen.class);
+        }
+        for (UUID id : event.ids()) {
+          evictScreen(event.tenantId(), id);
+        }
+        cache.evictQueryRegion(ScreenRepository.QUERY_CACHE_REGION);
+      }
+      case DOMAIN -> {
+        cache.evictEntityData(TenantDomain.class);
+        cache.evictQueryRegion(TenantDomainRepository.QUERY_CACHE_REGION);
+      }
+      case TENANT -> {
+        cache.evictEntityData(Tenant.class);
+        cache.evictEntityData(TenantDomain.class);
+        cache.evictEntityData(Screen.class);
+        cache.evictQueryRegions();
+      }
+      case ALL -> {
+        cache.evictAllRegions();
+        cache.evictQueryRegions();
+      }
+    }
+  }
+
+  /**
+   * Cache.evictEntityData(Class, id) builds its key without a tenant, and entries here are keyed by
+   * the tenant of the session that cached them, so the key is built the way that session did.
+   */
+  private void evictScreen(UUID tenantId, UUID id) {
+    EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Screen.class);
+    EntityDataAccess access = persister.getCacheAccessStrategy();
+    if (access != null) {
+      access.evict(access.generateCacheKey(id, persister, sessionFactory, tenantId.toString()));
+    }
+  }
+}
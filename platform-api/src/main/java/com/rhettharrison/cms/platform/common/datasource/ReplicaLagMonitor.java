@@ -0,0 +1,98 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Polls each replica's replay lag and takes replicas out of rotation while it exceeds max-lag or
+ * the replica cannot be reached. A replica that has replayed everything it received reports zero
+ * lag even when the primary has been idle, so quiet periods do not evict healthy replicas.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  // Zero outside recovery (a standalone server) and when fully caught up
+  static final String LAG_QUERY = """
+      select case
+               when not pg_is_in_recovery() then 0
+               when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+               else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+             end
+      """;
+
+  private final ReplicaRoutingDataSource routingDataSource;
+  private final Duration maxLag;
+  private final Duration interval;
+
+  private volatile ScheduledExecutorService scheduler;
+
+  public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, Duration interval) {
+    this.routingDataSource = routingDataSource;
+    this.maxLag = maxLag;
+    this.interval = interval;
+  }
+
+  @Override
+  public void start() {
+    ScheduledExecutorService s = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "replica-lag-monitor");
+      t.setDaemon(true);
+      return t;
+    });
+    s.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    scheduler = s;
+    logger.info("Replica lag monitor started for {} replica(s), max lag {}",
+        routingDataSource.replicas().size(), maxLag);
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService s = scheduler;
+    scheduler = null;
+    if (s != null) {
+      s.shutdownNow();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  void checkAll() {
+    for (ReplicaRoutingDataSource.Replica replica : routingDataSource.replicas()) {
+      check(replica);
+    }
+  }
+
+  private void check(ReplicaRoutingDataSource.Replica replica) {
+    boolean wasHealthy = replica.isHealthy();
+    try (Connection connection = replica.dataSource().getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+      rs.next();
+      Duration lag = Duration.ofMillis(Math.round(rs.getDouble(1) * 1000));
+      boolean healthy = lag.compareTo(maxLag) <= 0;
+      replica.update(healthy, lag);
+      if (wasHealthy && !healthy) {
+        logger.warn("Replica {} out of rotation: lag {} exceeds {}", replica.name(), lag, maxLag);
+      } else if (!wasHealthy && healthy) {
+        logger.info("Replica {} back in rotation (lag {})", replica.name(), lag);
+      }
+    } catch (Exception e) {
+      replica.update(false, replica.lag());
+      if (wasHealthy) {
+        logger.warn("Replica {} out of rotation: lag check failed: {}", replica.name(), e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads on the current thread as safe to serve from a read replica. Only read-only
+ * transactions started inside the scope are eligible; everything else, and any read outside a
+ * scope, stays on the primary. Opt-in per call site so that login, admin screens and anything
+ * that must see its own writes never reads stale data by accident.
+ */
+public final class ReplicaReads {
+
+  private static final ThreadLocal<Boolean> ALLOWED = new ThreadLocal<>();
+
+  private ReplicaReads() {}
+
+  public static boolean isAllowed() {
+    return ALLOWED.get() != null;
+  }
+
+  public static <T> T call(Supplier<T> action) {
+    boolean outermost = ALLOWED.get() == null;
+    if (outermost) {
+      ALLOWED.set(Boolean.TRUE);
+    }
+    try {
+      return action.get();
+    } finally {
+      if (outermost) {
+        ALLOWED.remove();
+      }
+    }
+  }
+
+  public static void run(Runnable action) {
+    call(() -> {
+      action.run();
+      return null;
+    });
+  }
+}
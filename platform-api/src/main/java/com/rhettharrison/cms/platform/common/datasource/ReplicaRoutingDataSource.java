@@ -0,0 +1,245 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-only target of the application DataSource (see ReadReplicaConfig): connections requested
+ * by read-only transactions inside a ReplicaReads scope go round-robin to a healthy replica, all
+ * others to the primary. A replica is healthy while ReplicaLagMonitor measures its lag within
+ * max-lag; with none healthy, reads fall back to the primary.
+ *
+ * Read-your-writes: a read-write transaction under a tenant pins that tenant to the primary for
+ * pin-window, as does a cache invalidation for the tenant (which also arrives on other nodes
+ * through the notify bus). Domain-level and global invalidations pin every read. The window must
+ * be at least max-lag so a pinned write is on every replica still in rotation when the pin ends.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  static final String METRIC_PREFIX = "datasource.replica";
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final long pinWindowNanos;
+  private final LongSupplier nanoClock;
+  private final DataSource readWriteView;
+
+  private final Map<UUID, Long> tenantPins = new ConcurrentHashMap<>();
+  private volatile long globalPinUntil;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  private final Counter routedToReplica;
+  private final Counter routedPinned;
+  private final Counter routedUnavailable;
+
+  public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration pinWindow,
+      MeterRegistry meterRegistry) {
+    this(primary, replicas, pinWindow, meterRegistry, System::nanoTime);
+  }
+
+  ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration pinWindow,
+      MeterRegistry meterRegistry, LongSupplier nanoClock) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.pinWindowNanos = pinWindow.toNanos();
+    this.nanoClock = nanoClock;
+    this.globalPinUntil = nanoClock.getAsLong();
+    this.readWriteView = new PinningPrimary(primary);
+
+    this.routedToReplica = routedCounter(meterRegistry, "replica");
+    this.routedPinned = routedCounter(meterRegistry, "pinned");
+    this.routedUnavailable = routedCounter(meterRegistry, "unavailable");
+    for (Replica replica : this.replicas) {
+      Gauge.builder(METRIC_PREFIX + ".lag", replica, r -> r.lag.toMillis() / 1000.0)
+          .tag("replica", replica.name())
+          .baseUnit("seconds")
+          .description("Last measured replication lag")
+          .register(meterRegistry);
+      Gauge.builder(METRIC_PREFIX + ".healthy", replica, r -> r.healthy ? 1 : 0)
+          .tag("replica", replica.name())
+          .description("1 while the replica is in rotation")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * The primary, recording read-your-writes pins for read-write transactions. Used as the
+   * read-write target of the application DataSource.
+   */
+  public DataSource readWriteDataSource() {
+    return readWriteView;
+  }
+
+  public List<Replica> replicas() {
+    return replicas;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return route().getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return route().getConnection(username, password);
+  }
+
+  private DataSource route() {
+    if (!ReplicaReads.isAllowed() || replicas.isEmpty()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return primary;
+    }
+    if (isPinned(TenantContext.getTenantIdOrNull())) {
+      routedPinned.increment();
+      return primary;
+    }
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (replica.healthy) {
+        routedToReplica.increment();
+        return replica.dataSource();
+      }
+    }
+    routedUnavailable.increment();
+    return primary;
+  }
+
+  public void pin(UUID tenantId) {
+    long until = nanoClock.getAsLong() + pinWindowNanos;
+    tenantPins.merge(tenantId, until, Math::max);
+  }
+
+  public void pinAll() {
+    globalPinUntil = nanoClock.getAsLong() + pinWindowNanos;
+  }
+
+  boolean isPinned(UUID tenantId) {
+    long now = nanoClock.getAsLong();
+    if (now - globalPinUntil < 0) {
+      return true;
+    }
+    if (tenantId == null) {
+      return false;
+    }
+    Long until = tenantPins.get(tenantId);
+    if (until == null) {
+      return false;
+    }
+    if (now - until < 0) {
+      return true;
+    }
+    tenantPins.remove(tenantId, until);
+    return false;
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case SCREEN, TENANT -> {
+        if (event.tenantId() != null) {
+          pin(event.tenantId());
+        }
+      }
+      case DOMAIN, ALL -> pinAll();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.dataSource() instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private static Counter routedCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder(METRIC_PREFIX + ".routed").tag("outcome", outcome)
+        .description("Replica-eligible connections by routing outcome").register(meterRegistry);
+  }
+
+  /**
+   * A replica and its last measured state, updated by ReplicaLagMonitor.
+   */
+  public static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile Duration lag = Duration.ZERO;
+
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public DataSource dataSource() {
+      return dataSource;
+    }
+
+    public boolean isHealthy() {
+      return healthy;
+    }
+
+    public Duration lag() {
+      return lag;
+    }
+
+    void update(boolean healthy, Duration lag) {
+      this.healthy = healthy;
+      this.lag = lag;
+    }
+  }
+
+  private final class PinningPrimary extends DelegatingDataSource {
+
+    private PinningPrimary(DataSource primary) {
+      super(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      recordWrite();
+      return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      recordWrite();
+      return super.getConnection(username, password);
+    }
+
+    private void recordWrite() {
+      UUID tenantId = TenantContext.getTenantIdOrNull();
+      if (tenantId != null && TransactionSynchronizationManager.isActualTransactionActive()
+          && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+        pin(tenantId);
+      }
+    }
+  }
+}
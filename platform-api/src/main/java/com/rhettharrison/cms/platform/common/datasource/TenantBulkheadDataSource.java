@@ -0,0 +1,360 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Per-tenant bulkhead in front of the application DataSource (see TenantBulkheadConfig). A
+ * connection requested under a tenant needs one of a fixed number of permits, and one tenant holds
+ * at most perTenantMax of them, so a bulk job or slow-query storm in one tenant cannot take every
+ * pooled connection. Permits should be fewer than the pool size: work without a tenant (tenant
+ * resolution, Flyway, cache bus, shard moves) bypasses the bulkhead and uses the remainder.
+ *
+ * When no permit is free the request waits in its tenant's bounded queue. Freed permits go to the
+ * waiting tenants by weighted fair queueing: every waiter gets a virtual finish tag of
+ * max(virtual time, tenant's last tag) + 1/weight, and the smallest tag among tenants below their
+ * limit is served next, so a tenant with a long queue cannot starve one that waits rarely. A full
+ * tenant queue rejects at once and a wait longer than maxWait rejects too, both with
+ * TenantBulkheadFullException; the connection pool's own timeout is never reached under load.
+ *
+ * A thread that already holds a permit gets nested connections (REQUIRES_NEW, a second DataSource
+ * call inside a transaction) without another one, which would otherwise deadlock at the limit.
+ */
+public class TenantBulkheadDataSource extends DelegatingDataSource {
+
+  static final String METRIC_PREFIX = "datasource.bulkhead";
+
+  public record Settings(
+      int permits,
+      int perTenantMax,
+      int perTenantQueueCapacity,
+      Duration maxWait,
+      Duration retryAfter,
+      Map<UUID, Integer> weights
+  ) {
+
+    public Settings {
+      if (permits < 1 || perTenantMax < 1) {
+        throw new IllegalArgumentException("permits and perTenantMax must be at least 1");
+      }
+      if (perTenantQueueCapacity < 0) {
+        throw new IllegalArgumentException("perTenantQueueCapacity must not be negative");
+      }
+      weights = Map.copyOf(weights);
+      weights.forEach((tenantId, weight) -> {
+        if (weight < 1) {
+          throw new IllegalArgumentException("Bulkhead weight for tenant " + tenantId + " must be at least 1");
+        }
+      });
+    }
+  }
+
+  private final Settings settings;
+  private final MeterRegistry meterRegistry;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  // Guarded by lock
+  private final Map<UUID, TenantState> tenants = new HashMap<>();
+  private int available;
+  private int waiting;
+  private double virtualTime;
+  private long arrivals;
+
+  // Permits held by the current thread; nested acquisitions reuse them
+  private final ThreadLocal<Holder> held = ThreadLocal.withInitial(Holder::new);
+
+  public TenantBulkheadDataSource(DataSource target, Settings settings, MeterRegistry meterRegistry) {
+    super(target);
+    this.settings = settings;
+    this.meterRegistry = meterRegistry;
+    this.available = settings.permits();
+
+    Gauge.builder(METRIC_PREFIX + ".available", this, TenantBulkheadDataSource::availablePermits)
+        .description("Free tenant connection permits").register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".waiting", this, TenantBulkheadDataSource::waitingRequests)
+        .description("Connection requests queued behind the bulkhead").register(meterRegistry);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    UUID tenantId = TenantContext.getTenantIdOrNull();
+    Holder holder = held.get();
+    if (tenantId == null || holder.count > 0) {
+      return super.getConnection();
+    }
+    acquire(tenantId);
+    return guarded(tenantId, holder, super::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    UUID tenantId = TenantContext.getTenantIdOrNull();
+    Holder holder = held.get();
+    if (tenantId == null || holder.count > 0) {
+      return super.getConnection(username, password);
+    }
+    acquire(tenantId);
+    return guarded(tenantId, holder, () -> super.getConnection(username, password));
+  }
+
+  int availablePermits() {
+    lock.lock();
+    try {
+      return available;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int waitingRequests() {
+    lock.lock();
+    try {
+      return waiting;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Connection guarded(UUID tenantId, Holder holder, ConnectionSupplier supplier) throws SQLException {
+    Connection connection;
+    try {
+      connection = supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      release(tenantId);
+      throw e;
+    }
+    holder.count++;
+    return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+        new Class<?>[] {ConnectionProxy.class}, new PermitReleasingHandler(connection, tenantId, holder));
+  }
+
+  private void acquire(UUID tenantId) throws SQLException {
+    long startedAt = System.nanoTime();
+    TenantState state = null;
+    Waiter waiter = null;
+    lock.lock();
+    try {
+      state = tenants.computeIfAbsent(tenantId, id -> new TenantState());
+      // A free permit means no eligible waiter exists: release hands permits straight to waiters
+      if (available > 0 && state.inUse < settings.perTenantMax() && state.queue.isEmpty()) {
+        available--;
+        state.inUse++;
+        return;
+      }
+      if (state.queue.size() >= settings.perTenantQueueCapacity()) {
+        dropIfIdle(tenantId, state);
+        throw reject(tenantId, "tenant_queue_full");
+      }
+      double start = Math.max(virtualTime, state.lastFinish);
+      waiter = new Waiter(lock.newCondition(), start, start + 1.0 / weight(tenantId), arrivals++);
+      state.lastFinish = waiter.finish;
+      state.queue.addLast(waiter);
+      waiting++;
+      dispatch();
+
+      long remaining = settings.maxWait().toNanos();
+      while (!waiter.granted && remaining > 0) {
+        remaining = waiter.signal.awaitNanos(remaining);
+      }
+      if (!waiter.granted) {
+        state.queue.remove(waiter);
+        waiting--;
+        dropIfIdle(tenantId, state);
+        throw reject(tenantId, "timeout");
+      }
+    } catch (InterruptedException e) {
+      // Still under the lock: give back a permit granted in the meantime, or leave the queue
+      if (waiter.granted) {
+        state.inUse--;
+        available++;
+      } else {
+        state.queue.remove(waiter);
+        waiting--;
+      }
+      dropIfIdle(tenantId, state);
+      dispatch();
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a tenant connection permit", e);
+    } finally {
+      lock.unlock();
+      recordWait(tenantId, startedAt);
+    }
+  }
+
+  private void release(UUID tenantId) {
+    lock.lock();
+    try {
+      TenantState state = tenants.get(tenantId);
+      if (state != null) {
+        state.inUse--;
+        dropIfIdle(tenantId, state);
+      }
+      available++;
+      dispatch();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Hands free permits to the waiters with the smallest finish tags, skipping tenants at their
+   * limit. Caller holds the lock.
+   */
+  private void dispatch() {
+    while (available > 0 && waiting > 0) {
+      TenantState next = null;
+      for (TenantState state : tenants.values()) {
+        Waiter head = state.queue.peekFirst();
+        if (head == null || state.inUse >= settings.perTenantMax()) {
+          continue;
+        }
+        Waiter best = next != null ? next.queue.peekFirst() : null;
+        if (best == null || head.finish < best.finish || (head.finish == best.finish && head.arrival < best.arrival)) {
+          next = state;
+        }
+      }
+      if (next == null) {
+        return;
+      }
+      Waiter waiter = next.queue.pollFirst();
+      waiting--;
+      available--;
+      next.inUse++;
+      virtualTime = Math.max(virtualTime, waiter.start);
+      waiter.granted = true;
+      waiter.signal.signal();
+    }
+  }
+
+  private void dropIfIdle(UUID tenantId, TenantState state) {
+    if (state.inUse == 0 && state.queue.isEmpty()) {
+      tenants.remove(tenantId);
+    }
+  }
+
+  private int weight(UUID tenantId) {
+    return settings.weights().getOrDefault(tenantId, 1);
+  }
+
+  private TenantBulkheadFullException reject(UUID tenantId, String reason) {
+    Counter.builder(METRIC_PREFIX + ".rejected")
+        .tag("tenant", tenantId.toString())
+        .tag("reason", reason)
+        .description("Connection requests rejected by the tenant bulkhead")
+        .register(meterRegistry)
+        .increment();
+    return new TenantBulkheadFullException(tenantId, reason, settings.retryAfter());
+  }
+
+  private void recordWait(UUID tenantId, long startedAt) {
+    Timer.builder(METRIC_PREFIX + ".wait")
+        .tag("tenant", tenantId.toString())
+        .description("Time spent waiting for a tenant connection permit")
+        .register(meterRegistry)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+
+  private static final class Holder {
+    private int count;
+  }
+
+  // Guarded by lock
+  private static final class TenantState {
+    private int inUse;
+    private double lastFinish;
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+  }
+
+  private static final class Waiter {
+    private final Condition signal;
+    private final double start;
+    private final double finish;
+    private final long arrival;
+    private boolean granted;
+
+    private Waiter(Condition signal, double start, double finish, long arrival) {
+      this.signal = signal;
+      this.start = start;
+      this.finish = finish;
+      this.arrival = arrival;
+    }
+  }
+
+  /**
+   * Returns the permit when the connection is closed (once, even if close is called again).
+   */
+  private final class PermitReleasingHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final UUID tenantId;
+    private final Holder holder;
+    private boolean released;
+
+    private PermitReleasingHandler(Connection target, UUID tenantId, Holder holder) {
+      this.target = target;
+      this.tenantId = tenantId;
+      this.holder = holder;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return "Tenant bulkhead proxy for " + target;
+        case "getTargetConnection":
+          return target;
+        case "close":
+          try {
+            target.close();
+          } finally {
+            releaseOnce();
+          }
+          return null;
+        default:
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+      }
+    }
+
+    private synchronized void releaseOnce() {
+      if (released) {
+        return;
+      }
+      released = true;
+      holder.count--;
+      release(tenantId);
+    }
+  }
+}
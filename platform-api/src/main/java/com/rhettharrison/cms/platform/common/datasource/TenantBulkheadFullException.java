@@ -0,0 +1,45 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * The tenant's share of database connections is exhausted; the request should be retried after the
+ * given delay. Raised from getConnection, so callers usually see it as the cause of a Spring or
+ * Hibernate exception (see find).
+ */
+public class TenantBulkheadFullException extends SQLTransientConnectionException {
+
+  private final UUID tenantId;
+  private final Duration retryAfter;
+
+  public TenantBulkheadFullException(UUID tenantId, String reason, Duration retryAfter) {
+    super("Database busy for tenant " + tenantId + " (" + reason + "), please retry");
+    this.tenantId = tenantId;
+    this.retryAfter = retryAfter;
+  }
+
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
+  /**
+   * The bulkhead rejection somewhere in the cause chain of ex, or null.
+   */
+  public static TenantBulkheadFullException find(Throwable ex) {
+    for (Throwable t = ex; t != null; t = t.getCause()) {
+      if (t instanceof TenantBulkheadFullException rejected) {
+        return rejected;
+      }
+      if (t.getCause() == t) {
+        break;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,92 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * In-memory copy of the tenant_shards directory table (main database). Loaded once all singletons
+ * exist, so after Flyway has run, and kept current by the TENANT invalidations the V12 trigger
+ * sends on every change; an ALL invalidation (missed notifications) reloads everything. Tenants
+ * without a row belong to the main shard.
+ */
+public class TenantShardDirectory implements SmartInitializingSingleton {
+
+  private static final Logger logger = LoggerFactory.getLogger(TenantShardDirectory.class);
+
+  public static final String MAIN_SHARD = "main";
+
+  public record Assignment(String shardId, boolean moving) {
+
+    static final Assignment MAIN = new Assignment(MAIN_SHARD, false);
+  }
+
+  private final JdbcTemplate directoryJdbc;
+  private final Map<UUID, Assignment> assignments = new ConcurrentHashMap<>();
+
+  public TenantShardDirectory(JdbcTemplate directoryJdbc) {
+    this.directoryJdbc = directoryJdbc;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    reloadAll();
+  }
+
+  public Assignment lookup(UUID tenantId) {
+    if (tenantId == null) {
+      return Assignment.MAIN;
+    }
+    return assignments.getOrDefault(tenantId, Assignment.MAIN);
+  }
+
+  public void reloadAll() {
+    Map<UUID, Assignment> loaded = new ConcurrentHashMap<>();
+    directoryJdbc.query("SELECT tenant_id, shard_id, moving FROM tenant_shards", rs -> {
+      loaded.put(rs.getObject("tenant_id", UUID.class),
+          new Assignment(rs.getString("shard_id"), rs.getBoolean("moving")));
+    });
+    assignments.keySet().retainAll(loaded.keySet());
+    assignments.putAll(loaded);
+    logger.info("Loaded {} tenant shard assignment(s)", loaded.size());
+  }
+
+  public void reload(UUID tenantId) {
+    List<Assignment> rows = directoryJdbc.query(
+        "SELECT shard_id, moving FROM tenant_shards WHERE tenant_id = ?",
+        (rs, i) -> new Assignment(rs.getString("shard_id"), rs.getBoolean("moving")),
+        tenantId);
+    if (rows.isEmpty()) {
+      assignments.remove(tenantId);
+    } else {
+      assignments.put(tenantId, rows.getFirst());
+    }
+  }
+
+  // Test and bootstrap hook; production changes go through the table
+  void assign(UUID tenantId, Assignment assignment) {
+    assignments.put(tenantId, assignment);
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case TENANT -> {
+        if (event.tenantId() != null) {
+          reload(event.tenantId());
+        }
+      }
+      case ALL -> reloadAll();
+      default -> {
+        // Screen and domain changes do not move tenants
+      }
+    }
+  }
+}
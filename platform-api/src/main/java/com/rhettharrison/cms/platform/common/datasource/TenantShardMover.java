@@ -0,0 +1,184 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves a tenant's rows to another shard while its reads keep being served:
+ * <ol>
+ *   <li>mark the tenant moving in tenant_shards, which makes every node hand out read-only
+ *       connections for it, and wait freeze-grace for in-flight writes to finish;</li>
+ *   <li>copy the tenants row (as the FK parent), screens and users to the target in one
+ *       transaction, replacing anything left there by an earlier failed attempt;</li>
+ *   <li>check row counts, then flip the directory row to the target and clear moving;</li>
+ *   <li>after another freeze-grace, so other nodes have stopped reading the source, delete the
+ *       rows from it. The main database keeps its tenants row, which is the directory entry itself.</li>
+ * </ol>
+ * Any failure before the flip clears moving and leaves the tenant on its source shard.
+ */
+public class TenantShardMover {
+
+  private static final Logger logger = LoggerFactory.getLogger(TenantShardMover.class);
+
+  // Child tables in copy order; deletes run in reverse
+  private static final List<String> TENANT_TABLES = List.of("screens", "users");
+  private static final int BATCH_SIZE = 500;
+
+  public record MoveResult(UUID tenantId, String fromShard, String toShard, Map<String, Integer> rowsCopied) {}
+
+  private final TenantShardRoutingDataSource routing;
+  private final JdbcTemplate directoryJdbc;
+  private final Duration freezeGrace;
+
+  public TenantShardMover(TenantShardRoutingDataSource routing, JdbcTemplate directoryJdbc, Duration freezeGrace) {
+    this.routing = routing;
+    this.directoryJdbc = directoryJdbc;
+    this.freezeGrace = freezeGrace;
+  }
+
+  public MoveResult move(UUID tenantId, String targetShard) {
+    TenantShardDirectory directory = routing.directory();
+    directory.reload(tenantId);
+    String sourceShard = directory.lookup(tenantId).shardId();
+    if (sourceShard.equals(targetShard)) {
+      throw new IllegalArgumentException("Tenant " + tenantId + " is already on shard " + targetShard);
+    }
+    DataSource source = routing.shard(sourceShard);
+    DataSource target = routing.shard(targetShard);
+
+    logger.info("Moving tenant {} from shard {} to {}", tenantId, sourceShard, targetShard);
+    setAssignment(tenantId, sourceShard, true);
+    Map<String, Integer> copied;
+    try {
+      sleep(freezeGrace);
+      copied = copy(tenantId, new JdbcTemplate(source), target, targetShard);
+      verify(tenantId, new JdbcTemplate(source), new JdbcTemplate(target));
+    } catch (RuntimeException e) {
+      setAssignment(tenantId, sourceShard, false);
+      throw e;
+    }
+
+    setAssignment(tenantId, targetShard, false);
+    sleep(freezeGrace);
+    deleteFromSource(tenantId, source, sourceShard);
+    logger.info("Moved tenant {} to shard {}: {}", tenantId, targetShard, copied);
+    return new MoveResult(tenantId, sourceShard, targetShard, copied);
+  }
+
+  private void setAssignment(UUID tenantId, String shardId, boolean moving) {
+    directoryJdbc.update("""
+        INSERT INTO tenant_shards (tenant_id, shard_id, moving, updated_at) VALUES (?, ?, ?, NOW())
+        ON CONFLICT (tenant_id) DO UPDATE SET shard_id = EXCLUDED.shard_id, moving = EXCLUDED.moving,
+                                               updated_at = EXCLUDED.updated_at
+        """, tenantId, shardId, moving);
+    // Other nodes follow through the V12 notify trigger
+    routing.directory().reload(tenantId);
+  }
+
+  private Map<String, Integer> copy(UUID tenantId, JdbcTemplate source, DataSource target, String targetShard) {
+    JdbcTemplate targetJdbc = new JdbcTemplate(target);
+    return new TransactionTemplate(new DataSourceTransactionManager(target)).execute(status -> {
+      for (String table : TENANT_TABLES.reversed()) {
+        targetJdbc.update("DELETE FROM " + table + " WHERE tenant_id = ?", tenantId);
+      }
+      if (!TenantShardDirectory.MAIN_SHARD.equals(targetShard)) {
+        // Shard tenants rows only exist as FK parents; drop a stale one holding the same slug
+        targetJdbc.update("DELETE FROM tenants WHERE id <> ? AND slug = (SELECT slug FROM tenants WHERE id = ?)",
+            tenantId, tenantId);
+      }
+      Map<String, Integer> counts = new LinkedHashMap<>();
+      counts.put("tenants", copyRows(source, targetJdbc, "tenants", "id", tenantId, " ON CONFLICT (id) DO NOTHING"));
+      for (String table : TENANT_TABLES) {
+        counts.put(table, copyRows(source, targetJdbc, table, "tenant_id", tenantId, ""));
+      }
+      return counts;
+    });
+  }
+
+  /**
+   * Streams the matching rows from source and batch-inserts them with the same columns into target.
+   */
+  private static int copyRows(JdbcTemplate source, JdbcTemplate target, String table, String keyColumn,
+      UUID tenantId, String onConflict) {
+    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+    String[] insertSql = new String[1];
+    int[] total = new int[1];
+    source.query("SELECT * FROM " + table + " WHERE " + keyColumn + " = ?", (ResultSet rs) -> {
+      ResultSetMetaData meta = rs.getMetaData();
+      int columns = meta.getColumnCount();
+      if (insertSql[0] == null) {
+        insertSql[0] = insertStatement(table, meta) + onConflict;
+      }
+      Object[] row = new Object[columns];
+      for (int i = 0; i < columns; i++) {
+        row[i] = rs.getObject(i + 1);
+      }
+      batch.add(row);
+      total[0]++;
+      if (batch.size() == BATCH_SIZE) {
+        target.batchUpdate(insertSql[0], batch);
+        batch.clear();
+      }
+    }, tenantId);
+    if (!batch.isEmpty()) {
+      target.batchUpdate(insertSql[0], batch);
+    }
+    return total[0];
+  }
+
+  private static String insertStatement(String table, ResultSetMetaData meta) throws SQLException {
+    List<String> names = new ArrayList<>();
+    for (int i = 1; i <= meta.getColumnCount(); i++) {
+      names.add(meta.getColumnName(i));
+    }
+    return "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+        + names.stream().map(n -> "?").collect(Collectors.joining(", ")) + ")";
+  }
+
+  private static void verify(UUID tenantId, JdbcTemplate source, JdbcTemplate target) {
+    for (String table : TENANT_TABLES) {
+      String sql = "SELECT count(*) FROM " + table + " WHERE tenant_id = ?";
+      Integer expected = source.queryForObject(sql, Integer.class, tenantId);
+      Integer actual = target.queryForObject(sql, Integer.class, tenantId);
+      if (!expected.equals(actual)) {
+        throw new IllegalStateException("Row count mismatch for " + table + " while moving tenant " + tenantId
+            + ": source " + expected + ", target " + actual);
+      }
+    }
+  }
+
+  private static void deleteFromSource(UUID tenantId, DataSource source, String sourceShard) {
+    JdbcTemplate jdbc = new JdbcTemplate(source);
+    new TransactionTemplate(new DataSourceTransactionManager(source)).executeWithoutResult(status -> {
+      for (String table : TENANT_TABLES.reversed()) {
+        jdbc.update("DELETE FROM " + table + " WHERE tenant_id = ?", tenantId);
+      }
+      if (!TenantShardDirectory.MAIN_SHARD.equals(sourceShard)) {
+        jdbc.update("DELETE FROM tenants WHERE id = ?", tenantId);
+      }
+    });
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for in-flight writes", e);
+    }
+  }
+}
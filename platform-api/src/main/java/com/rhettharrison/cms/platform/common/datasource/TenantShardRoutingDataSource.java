@@ -0,0 +1,78 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes each connection to the shard holding the current TenantContext tenant, per
+ * TenantShardDirectory; with no tenant bound (tenant resolution, startup, Flyway) it uses the main
+ * database, which also holds the directory tables. A tenant that is being moved gets read-only
+ * connections, so its reads keep working while writes fail until the move completes.
+ * An assignment naming an unconfigured shard fails loudly instead of falling back to main.
+ */
+public class TenantShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+  private final TenantShardDirectory directory;
+  private final Map<String, DataSource> shards;
+
+  public TenantShardRoutingDataSource(TenantShardDirectory directory, Map<String, DataSource> shards) {
+    if (!shards.containsKey(TenantShardDirectory.MAIN_SHARD)) {
+      throw new IllegalArgumentException("Shard map must contain the '" + TenantShardDirectory.MAIN_SHARD + "' shard");
+    }
+    this.directory = directory;
+    this.shards = Map.copyOf(shards);
+    setTargetDataSources(new HashMap<>(shards));
+    setDefaultTargetDataSource(shards.get(TenantShardDirectory.MAIN_SHARD));
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  public DataSource shard(String shardId) {
+    DataSource dataSource = shards.get(shardId);
+    if (dataSource == null) {
+      throw new IllegalArgumentException("Unknown shard: " + shardId);
+    }
+    return dataSource;
+  }
+
+  public TenantShardDirectory directory() {
+    return directory;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return directory.lookup(TenantContext.getTenantIdOrNull()).shardId();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return freezeIfMoving(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return freezeIfMoving(super.getConnection(username, password));
+  }
+
+  private Connection freezeIfMoving(Connection connection) throws SQLException {
+    if (directory.lookup(TenantContext.getTenantIdOrNull()).moving()) {
+      // Before the first statement, so the driver opens the transaction READ ONLY
+      connection.setReadOnly(true);
+    }
+    return connection;
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (DataSource dataSource : shards.values()) {
+      if (dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.rhettharrison.cms.platform.common.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams JFR jdk.VirtualThreadPinned events in-process while virtual threads are enabled. Every
+ * pin longer than the threshold is counted as jvm.threads.virtual.pinned; the first occurrence of
+ * each distinct stack is logged at WARN so the blocking call inside synchronized code can be found.
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 12;
+  // Bounds memory if pinning happens on many different paths
+  private static final int MAX_DISTINCT_STACKS = 256;
+
+  private final boolean enabled;
+  private final Duration threshold;
+  private final Counter pinnedCounter;
+  private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${app.virtual-threads.pinning-monitor.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+      @Value("${app.virtual-threads.pinning-monitor.threshold:PT0.02S}") Duration threshold
+  ) {
+    this.enabled = enabled;
+    this.threshold = threshold;
+    this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+        .description("Virtual threads pinned to their carrier longer than the monitor threshold")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    RecordingStream s = new RecordingStream();
+    s.enable(EVENT).withThreshold(threshold).withStackTrace();
+    s.onEvent(EVENT, this::onPinned);
+    s.startAsync();
+    stream = s;
+    logger.info("Virtual thread pinning monitor started (threshold {})", threshold);
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream s = stream;
+    stream = null;
+    if (s != null) {
+      s.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  void onPinned(RecordedEvent event) {
+    pinnedCounter.increment();
+    String stack = describe(event.getStackTrace());
+    if (loggedStacks.size() < MAX_DISTINCT_STACKS && loggedStacks.add(stack)) {
+      logger.warn("Virtual thread pinned for {} ms:{}", event.getDuration().toMillis(), stack);
+    }
+  }
+
+  private static String describe(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return " <no stack trace>";
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    return frames.stream()
+        .limit(LOGGED_FRAMES)
+        .map(f -> "\n\tat " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+        .collect(Collectors.joining());
+  }
+}
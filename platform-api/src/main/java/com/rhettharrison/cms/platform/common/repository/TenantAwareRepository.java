@@ -3,13 +3,18 @@ package com.rhettharrison.cms.platform.common.repository;
 import com.rhettharrison.cms.platform.common.tenant.TenantAwareEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Base repository for tenant-aware entities.
  * All queries are automatically scoped by tenant_id via Hibernate filter.
  * No need to pass tenant_id as a parameter - it's enforced automatically.
+ * The filter is enabled when a transaction begins (TenantAwareJpaDialect), so query methods declared
+ * on sub-interfaces run in a read-only transaction too; Spring Data would otherwise run them without
+ * one, and unscoped. Writing queries declare their own @Transactional.
  */
 @NoRepositoryBean
+@Transactional(readOnly = true)
 public interface TenantAwareRepository<T extends TenantAwareEntity, ID> extends JpaRepository<T, ID> {
   // All standard JpaRepository methods (findAll, findById, save, etc.)
   // are automatically scoped to the current tenant via Hibernate filter
@@ -0,0 +1,26 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import java.util.Locale;
+
+/**
+ * How tenant scoping is enforced, chosen with app.tenancy.mode.
+ *
+ * FILTER: the "tenantFilter" Hibernate filter, enabled per transaction by TenantAwareJpaDialect.
+ * Queries are scoped; loads by id and the second-level cache are not, so the cache stays off.
+ *
+ * DISCRIMINATOR: additionally Hibernate's native @TenantId discriminator, with each session opened
+ * for the TenantContext tenant. Loads by id are scoped too, and second-level and query cache keys
+ * carry the tenant, so both caches are enabled for Screen, Tenant and TenantDomain.
+ */
+public enum TenancyMode {
+  FILTER,
+  DISCRIMINATOR;
+
+  public static TenancyMode from(String value) {
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown app.tenancy.mode '" + value + "', expected filter or discriminator");
+    }
+  }
+}
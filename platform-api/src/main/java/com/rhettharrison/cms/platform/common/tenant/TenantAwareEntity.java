@@ -8,13 +8,19 @@ import lombok.Getter;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
+import org.hibernate.annotations.TenantId;
 
+/**
+ * Base class for tenant-owned rows. Scoped by the "tenantFilter" in every mode and, in
+ * DISCRIMINATOR mode, also by the @TenantId discriminator (see TenancyMode).
+ */
 @Getter
 @MappedSuperclass
 @EntityListeners(TenantEntityListener.class)
 @FilterDef(name = "tenantFilter", parameters = @ParamDef(name = "tenantId", type = UUID.class))
 @Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 public abstract class TenantAwareEntity {
+  @TenantId
   @Column(name = "tenant_id", nullable = false, updatable = false)
   protected UUID tenantId;
 
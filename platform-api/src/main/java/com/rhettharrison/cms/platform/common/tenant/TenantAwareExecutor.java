@@ -0,0 +1,239 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executor for background work that must stay tenant-scoped. Each task is decorated with
+ * TenantAwareTaskDecorator at submission. Tasks are grouped into per-tenant lanes: at most
+ * perTenantConcurrency tasks of one tenant are handed to the shared pool at a time, and the rest
+ * wait in that tenant's own bounded backlog, so a tenant flooding the executor only delays itself.
+ * Work submitted without a tenant shares a single platform lane. A waiting task the shared pool
+ * cannot take yet stays at the head of its lane and is handed off again once pool capacity frees.
+ */
+public class TenantAwareExecutor implements Executor, DisposableBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(TenantAwareExecutor.class);
+
+  static final String METRIC_PREFIX = "tenant.executor";
+  // Lane key for work submitted outside any tenant scope
+  private static final UUID PLATFORM_LANE = new UUID(0L, 0L);
+
+  private final ThreadPoolTaskExecutor pool;
+  private final TenantAwareTaskDecorator decorator;
+  private final int perTenantConcurrency;
+  private final int perTenantQueueCapacity;
+  private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+  // Lanes holding waiting tasks that the shared pool refused
+  private final Set<UUID> stalled = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger backlog = new AtomicInteger();
+
+  private final Counter laneRejections;
+  private final Counter poolRejections;
+  private final Timer queueWait;
+
+  public TenantAwareExecutor(
+      TenantAwareTaskDecorator decorator,
+      MeterRegistry meterRegistry,
+      int coreSize,
+      int maxSize,
+      int queueCapacity,
+      int perTenantConcurrency,
+      int perTenantQueueCapacity
+  ) {
+    if (perTenantConcurrency < 1) {
+      throw new IllegalArgumentException("perTenantConcurrency must be at least 1");
+    }
+    this.decorator = decorator;
+    this.perTenantConcurrency = perTenantConcurrency;
+    this.perTenantQueueCapacity = perTenantQueueCapacity;
+
+    this.pool = new ThreadPoolTaskExecutor();
+    pool.setCorePoolSize(coreSize);
+    pool.setMaxPoolSize(maxSize);
+    pool.setQueueCapacity(queueCapacity);
+    pool.setThreadNamePrefix("tenant-task-");
+    pool.setWaitForTasksToCompleteOnShutdown(true);
+    pool.setAwaitTerminationSeconds(30);
+    pool.initialize();
+
+    ExecutorServiceMetrics.monitor(meterRegistry, pool.getThreadPoolExecutor(), METRIC_PREFIX);
+    this.laneRejections = Counter.builder(METRIC_PREFIX + ".rejected").tag("reason", "tenant_backlog_full")
+        .description("Tasks rejected because the tenant's backlog was full").register(meterRegistry);
+    this.poolRejections = Counter.builder(METRIC_PREFIX + ".rejected").tag("reason", "pool_full")
+        .description("Tasks rejected because the shared pool queue was full").register(meterRegistry);
+    this.queueWait = Timer.builder(METRIC_PREFIX + ".wait")
+        .description("Time from submission until a task starts running").register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".tenant.backlog", backlog, AtomicInteger::get)
+        .description("Tasks waiting in per-tenant backlogs").register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".tenant.lanes", lanes, Map::size)
+        .description("Tenants with running or waiting tasks").register(meterRegistry);
+  }
+
+  /**
+   * @throws RejectedExecutionException when the tenant's backlog or the shared pool is full
+   */
+  @Override
+  public void execute(Runnable task) {
+    UUID tenantId = TenantContext.getTenantIdOrNull();
+    UUID key = tenantId != null ? tenantId : PLATFORM_LANE;
+    Runnable decorated = timed(decorator.decorate(task));
+
+    boolean[] dispatchNow = new boolean[1];
+    lanes.compute(key, (k, lane) -> {
+      Lane l = lane != null ? lane : new Lane();
+      if (l.running < perTenantConcurrency && l.pending.isEmpty()) {
+        l.running++;
+        dispatchNow[0] = true;
+      } else if (l.pending.size() < perTenantQueueCapacity) {
+        l.pending.addLast(decorated);
+        backlog.incrementAndGet();
+      } else {
+        laneRejections.increment();
+        throw new RejectedExecutionException("Background task backlog full for tenant " + key);
+      }
+      return l;
+    });
+
+    if (dispatchNow[0]) {
+      try {
+        pool.execute(() -> runInLane(key, decorated));
+      } catch (RejectedExecutionException e) {
+        poolRejections.increment();
+        release(key);
+        throw e;
+      }
+    }
+    retryStalled();
+  }
+
+  /**
+   * Tasks currently running or waiting for the tenant (a racy snapshot, for monitoring and tests).
+   */
+  public int inFlight(UUID tenantId) {
+    Lane lane = lanes.get(tenantId);
+    return lane != null ? lane.running + lane.pending.size() : 0;
+  }
+
+  @Override
+  public void destroy() {
+    pool.shutdown();
+  }
+
+  private void runInLane(UUID key, Runnable task) {
+    try {
+      task.run();
+    } finally {
+      release(key);
+      retryStalled();
+    }
+  }
+
+  /**
+   * Frees the lane slot held by a finished task, handing it straight to the tenant's next waiting
+   * task if there is one.
+   */
+  private void release(UUID key) {
+    Runnable[] next = new Runnable[1];
+    lanes.compute(key, (k, lane) -> {
+      if (lane == null) {
+        return null;
+      }
+      next[0] = lane.pending.pollFirst();
+      if (next[0] != null) {
+        backlog.decrementAndGet();
+        return lane;
+      }
+      lane.running--;
+      return lane.running > 0 ? lane : null;
+    });
+
+    if (next[0] != null) {
+      handOff(key, next[0]);
+    }
+  }
+
+  /**
+   * Hands a waiting task, whose lane slot is already taken, to the shared pool. The task was
+   * accepted by execute, so a full pool puts it back at the head of its lane instead of dropping
+   * it; the lane is retried when a pooled task finishes or new work is submitted.
+   *
+   * @return false if the pool refused the task
+   */
+  private boolean handOff(UUID key, Runnable task) {
+    try {
+      pool.execute(() -> runInLane(key, task));
+      return true;
+    } catch (RejectedExecutionException e) {
+      poolRejections.increment();
+      logger.debug("Shared pool is full; lane {} will retry its next task", key);
+      // The lane exists: the task still holds one of its slots
+      lanes.computeIfPresent(key, (k, lane) -> {
+        lane.pending.addFirst(task);
+        lane.running--;
+        return lane;
+      });
+      backlog.incrementAndGet();
+      stalled.add(key);
+      return false;
+    }
+  }
+
+  private void retryStalled() {
+    for (UUID key : stalled) {
+      if (!stalled.remove(key)) {
+        continue;
+      }
+      while (true) {
+        Runnable[] next = new Runnable[1];
+        lanes.computeIfPresent(key, (k, lane) -> {
+          if (lane.running < perTenantConcurrency) {
+            next[0] = lane.pending.pollFirst();
+          }
+          if (next[0] != null) {
+            lane.running++;
+            backlog.decrementAndGet();
+          }
+          return lane;
+        });
+        if (next[0] == null) {
+          break;
+        }
+        if (!handOff(key, next[0])) {
+          // Still full; a later completion retries
+          return;
+        }
+      }
+    }
+  }
+
+  private Runnable timed(Runnable task) {
+    long submittedAt = System.nanoTime();
+    return () -> {
+      queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+      task.run();
+    };
+  }
+
+  // Guarded by the ConcurrentHashMap bin lock via compute()
+  private static final class Lane {
+    private int running;
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+  }
+}
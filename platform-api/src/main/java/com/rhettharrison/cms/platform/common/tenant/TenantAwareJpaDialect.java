@@ -0,0 +1,32 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Enables the Hibernate "tenantFilter" on the session of every transaction that begins while a
+ * TenantContext is set. With open-in-view disabled each repository call gets its own session, so
+ * the filter has to be switched on where the session is created, on the same thread that runs the
+ * queries, rather than once per request. Installed by TenantJpaConfig.
+ */
+public class TenantAwareJpaDialect extends HibernateJpaDialect {
+
+  static final String FILTER_NAME = "tenantFilter";
+
+  @Override
+  public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+      throws PersistenceException, SQLException, TransactionException {
+    Object transactionData = super.beginTransaction(entityManager, definition);
+    UUID tenantId = TenantContext.getTenantIdOrNull();
+    if (tenantId != null) {
+      entityManager.unwrap(Session.class).enableFilter(FILTER_NAME).setParameter("tenantId", tenantId);
+    }
+    return transactionData;
+  }
+}
@@ -0,0 +1,38 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's tenant and MDC (requestId, tenantId) into a task, and restores
+ * the worker's previous state afterwards so pooled threads never leak context between tasks.
+ * Because the tenant is bound while the task runs, any transaction it starts gets the Hibernate
+ * tenant filter from TenantAwareJpaDialect. Spring Boot applies this decorator to its
+ * auto-configured task executors as well.
+ */
+public class TenantAwareTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    Runnable withTenant = TenantContext.wrap(runnable);
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return () -> {
+      Map<String, String> previous = MDC.getCopyOfContextMap();
+      setMdc(mdc);
+      try {
+        withTenant.run();
+      } finally {
+        setMdc(previous);
+      }
+    };
+  }
+
+  private static void setMdc(Map<String, String> context) {
+    if (context != null) {
+      MDC.setContextMap(context);
+    } else {
+      MDC.clear();
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package com.rhettharrison.cms.platform.common.tenant;
 
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
+/**
+ * Current tenant for the executing thread. Prefer the scoped API (bind, runWith, callWith) over
+ * setTenantId/clear: a scope restores the previous binding when it ends, so no finally block can be
+ * forgotten. Work handed to another thread (executors, structured-concurrency forks) must be
+ * wrapped with wrap(...) to carry the tenant across.
+ */
 public class TenantContext {
 
   private static final ThreadLocal<UUID> CURRENT_TENANT = new ThreadLocal<>();
@@ -38,4 +46,88 @@ public class TenantContext {
   public static void clear() {
     CURRENT_TENANT.remove();
   }
+
+  /**
+   * Binds the tenant until the returned scope is closed (use try-with-resources). Re-binding the
+   * tenant that is already current is allowed, so scopes nest; binding a different one is not.
+   */
+  public static Scope bind(UUID tenantId) {
+    if (tenantId == null) {
+      throw new IllegalArgumentException("Tenant ID cannot be null");
+    }
+    UUID previous = CURRENT_TENANT.get();
+    if (previous != null && !previous.equals(tenantId)) {
+      throw new IllegalStateException(
+          "Tenant ID already set for this request. Cannot override tenant context."
+      );
+    }
+    CURRENT_TENANT.set(tenantId);
+    return new Scope(previous, Thread.currentThread());
+  }
+
+  public static void runWith(UUID tenantId, Runnable action) {
+    try (Scope ignored = bind(tenantId)) {
+      action.run();
+    }
+  }
+
+  public static <T> T callWith(UUID tenantId, Supplier<T> action) {
+    try (Scope ignored = bind(tenantId)) {
+      return action.get();
+    }
+  }
+
+  /**
+   * Captures the caller's tenant (if any) so the task runs bound to it on whichever thread executes it.
+   */
+  public static Runnable wrap(Runnable task) {
+    UUID tenantId = CURRENT_TENANT.get();
+    if (tenantId == null) {
+      return task;
+    }
+    return () -> runWith(tenantId, task);
+  }
+
+  public static <T> Callable<T> wrap(Callable<T> task) {
+    UUID tenantId = CURRENT_TENANT.get();
+    if (tenantId == null) {
+      return task;
+    }
+    return () -> {
+      try (Scope ignored = bind(tenantId)) {
+        return task.call();
+      }
+    };
+  }
+
+  /**
+   * A tenant binding on one thread. Closing restores whatever was bound before it.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final UUID previous;
+    private final Thread owner;
+    private boolean closed;
+
+    private Scope(UUID previous, Thread owner) {
+      this.previous = previous;
+      this.owner = owner;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      if (Thread.currentThread() != owner) {
+        throw new IllegalStateException("Tenant scope must be closed on the thread that opened it");
+      }
+      closed = true;
+      if (previous == null) {
+        CURRENT_TENANT.remove();
+      } else {
+        CURRENT_TENANT.set(previous);
+      }
+    }
+  }
 }
@@ -0,0 +1,91 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import com.rhettharrison.cms.platform.domain.model.Tenant;
+import com.rhettharrison.cms.platform.domain.model.TenantDomain;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates TenantResolutionCache after Tenant or TenantDomain rows are committed.
+ * Runs post-commit so a concurrent request cannot re-populate the cache with pre-commit state.
+ */
+@Component
+public class TenantDirectoryChangeListener implements
+    PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final TenantResolutionCache tenantResolutionCache;
+
+  public TenantDirectoryChangeListener(EntityManagerFactory entityManagerFactory,
+                                       TenantResolutionCache tenantResolutionCache) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.tenantResolutionCache = tenantResolutionCache;
+  }
+
+  @PostConstruct
+  void register() {
+    SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (event.getEntity() instanceof TenantDomain tenantDomain) {
+      // Drops a cached negative lookup for the newly mapped domain
+      tenantResolutionCache.invalidateDomain(tenantDomain.getDomain());
+    } else if (event.getEntity() instanceof Tenant) {
+      // New slug may satisfy subdomain fallbacks that are cached as negative
+      tenantResolutionCache.invalidateAll();
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    // Domain or slug changes can affect any key; these writes are rare
+    if (event.getEntity() instanceof TenantDomain || event.getEntity() instanceof Tenant) {
+      tenantResolutionCache.invalidateAll();
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (event.getEntity() instanceof TenantDomain tenantDomain) {
+      tenantResolutionCache.invalidateDomain(tenantDomain.getDomain());
+    } else if (event.getEntity() instanceof Tenant) {
+      tenantResolutionCache.invalidateAll();
+    }
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+    // Nothing was committed; cache is still consistent
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    Class<?> mappedClass = persister.getMappedClass();
+    return Tenant.class.equals(mappedClass) || TenantDomain.class.equals(mappedClass);
+  }
+}
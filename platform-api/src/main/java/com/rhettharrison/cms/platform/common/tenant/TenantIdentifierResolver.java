@@ -0,0 +1,41 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import java.util.UUID;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Supplies the tenant for the @TenantId discriminator on TenantAwareEntity when a session opens.
+ * Sessions opened without a TenantContext (tenant resolution, startup, platform jobs) and every
+ * session in FILTER mode get the ROOT tenant, which Hibernate treats as seeing all partitions and
+ * which may assign tenant ids explicitly (TenantEntityListener does).
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<UUID> {
+
+  public static final UUID ROOT = new UUID(0L, 0L);
+
+  private final boolean discriminating;
+
+  public TenantIdentifierResolver(TenancyMode mode) {
+    this.discriminating = mode == TenancyMode.DISCRIMINATOR;
+  }
+
+  public boolean isDiscriminating() {
+    return discriminating;
+  }
+
+  @Override
+  public UUID resolveCurrentTenantIdentifier() {
+    UUID tenantId = discriminating ? TenantContext.getTenantIdOrNull() : null;
+    return tenantId != null ? tenantId : ROOT;
+  }
+
+  @Override
+  public boolean validateExistingCurrentSessions() {
+    return false;
+  }
+
+  @Override
+  public boolean isRoot(UUID tenantId) {
+    return ROOT.equals(tenantId);
+  }
+}
@@ -1,11 +1,18 @@
 package com.rhettharrison.cms.platform.common.tenant;
 
+import com.rhettharrison.cms.platform.domain.model.Tenant;
+import com.rhettharrison.cms.platform.domain.model.TenantDomain;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.FilterDefinition;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.EntityManagerFactory;
@@ -21,14 +28,21 @@ public class TenantInfrastructureValidator {
 
   private static final Logger logger = LoggerFactory.getLogger(TenantInfrastructureValidator.class);
 
+  // Hibernate's filter behind @TenantId (TenantIdBinder.FILTER_NAME, an internal class)
+  private static final String DISCRIMINATOR_FILTER_NAME = "_tenantId";
+  private static final List<Class<?>> CACHED_ENTITIES = List.of(Screen.class, Tenant.class, TenantDomain.class);
+
   private final EntityManagerFactory entityManagerFactory;
   private final ApplicationContext applicationContext;
+  private final TenancyMode tenancyMode;
 
   // Explicit constructor to ensure final fields are initialized without relying on Lombok
   public TenantInfrastructureValidator(EntityManagerFactory entityManagerFactory,
-                                       ApplicationContext applicationContext) {
+                                       ApplicationContext applicationContext,
+                                       @Value("${app.tenancy.mode:filter}") String tenancyMode) {
     this.entityManagerFactory = entityManagerFactory;
     this.applicationContext = applicationContext;
+    this.tenancyMode = TenancyMode.from(tenancyMode);
   }
 
   @PostConstruct
@@ -36,6 +50,11 @@ public class TenantInfrastructureValidator {
     logger.info("Validating tenant infrastructure...");
 
     validateHibernateFilterExists();
+    validateTenantDialectInstalled();
+    validateTenantIdentifierResolver();
+    if (tenancyMode == TenancyMode.DISCRIMINATOR) {
+      validateDiscriminatorCaching();
+    }
     validateCriticalFiltersPresent();
 
     logger.info("Tenant infrastructure validation complete ✓");
@@ -61,6 +80,59 @@ public class TenantInfrastructureValidator {
     logger.info("✓ Hibernate tenant filter 'tenantFilter' is properly configured");
   }
 
+  private void validateTenantDialectInstalled() {
+    if (!(entityManagerFactory instanceof EntityManagerFactoryInfo info)
+        || !(info.getJpaDialect() instanceof TenantAwareJpaDialect)) {
+      throw new IllegalStateException(
+          "TenantAwareJpaDialect is not installed. Without it the tenant filter is never enabled on transactional sessions."
+      );
+    }
+
+    logger.info("✓ TenantAwareJpaDialect enables 'tenantFilter' per transaction");
+  }
+
+  private void validateTenantIdentifierResolver() {
+    SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    Object resolver = sessionFactory.getCurrentTenantIdentifierResolver();
+
+    if (!sessionFactory.getDefinedFilterNames().contains(DISCRIMINATOR_FILTER_NAME)) {
+      throw new IllegalStateException(
+          "No @TenantId discriminator is mapped. Ensure TenantAwareEntity.tenantId is annotated with @TenantId."
+      );
+    }
+    if (!(resolver instanceof TenantIdentifierResolver tenantResolver)) {
+      throw new IllegalStateException(
+          "TenantIdentifierResolver is not installed as hibernate.tenant_identifier_resolver (see TenantJpaConfig)."
+      );
+    }
+    if (tenantResolver.isDiscriminating() != (tenancyMode == TenancyMode.DISCRIMINATOR)) {
+      throw new IllegalStateException(
+          "TenantIdentifierResolver does not match app.tenancy.mode=" + tenancyMode.name().toLowerCase()
+      );
+    }
+
+    logger.info("✓ Tenancy mode {}: @TenantId discriminator {}", tenancyMode,
+        tenantResolver.isDiscriminating() ? "scopes every session to TenantContext" : "runs as root");
+  }
+
+  private void validateDiscriminatorCaching() {
+    SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+        || !sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+      throw new IllegalStateException(
+          "Discriminator tenancy mode expects the second-level and query caches to be enabled."
+      );
+    }
+    for (Class<?> entity : CACHED_ENTITIES) {
+      if (!sessionFactory.getMappingMetamodel().getEntityDescriptor(entity).canReadFromCache()) {
+        throw new IllegalStateException(entity.getSimpleName() + " is not mapped to a second-level cache region.");
+      }
+    }
+
+    logger.info("✓ Tenant-partitioned second-level and query caches enabled for {}",
+        CACHED_ENTITIES.stream().map(Class::getSimpleName).toList());
+  }
+
   private void validateCriticalFiltersPresent() {
     boolean hasRequestId = !applicationContext.getBeansOfType(RequestIdFilter.class).isEmpty();
     boolean hasTenantResolution = !applicationContext.getBeansOfType(TenantResolutionFilter.class).isEmpty();
@@ -0,0 +1,102 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, concurrent cache of normalized domain -> tenantId used by TenantResolutionFilter.
+ * Unknown domains are cached as empty results with a much shorter TTL so that scans of
+ * random hosts cannot hammer the database, while newly provisioned domains still appear quickly.
+ * Hit/miss/eviction counters are published to Micrometer as cache "tenant.resolution".
+ */
+@Component
+public class TenantResolutionCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TenantResolutionCache.class);
+
+  static final String CACHE_NAME = "tenant.resolution";
+
+  private final Cache<String, Optional<UUID>> cache;
+
+  public TenantResolutionCache(
+      @Value("${app.tenant-cache.max-size:10000}") long maxSize,
+      @Value("${app.tenant-cache.ttl:PT5M}") Duration ttl,
+      @Value("${app.tenant-cache.negative-ttl:PT30S}") Duration negativeTtl,
+      MeterRegistry meterRegistry
+  ) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new ResolutionExpiry(ttl, negativeTtl))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns the cached resolution for the domain, invoking the loader (at most once per domain
+   * across concurrent callers) when absent or expired. Empty results are cached as negative entries.
+   */
+  public Optional<UUID> resolve(String domain, Function<String, Optional<UUID>> loader) {
+    return cache.get(domain, loader);
+  }
+
+  public void invalidateDomain(String domain) {
+    if (domain == null) return;
+    cache.invalidate(domain);
+    logger.debug("Invalidated tenant resolution for domain: {}", domain);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+    logger.debug("Invalidated all tenant resolutions");
+  }
+
+  /**
+   * Applies invalidations broadcast by other nodes (see PostgresCacheInvalidationListener).
+   */
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case DOMAIN -> event.keys().forEach(this::invalidateDomain);
+      // Slug changes can affect subdomain fallbacks for any key
+      case TENANT, ALL -> invalidateAll();
+      case SCREEN -> { }
+    }
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private record ResolutionExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<UUID>> {
+
+    @Override
+    public long expireAfterCreate(String key, Optional<UUID> value, long currentTime) {
+      return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Optional<UUID> value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Optional<UUID> value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,18 +1,97 @@
 package com.rhettharrison.cms.platform.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.net.IDN;
+import java.util.Locale;
+import java.util.Optional;
 
+/**
+ * Normalizes Host headers to the form stored in tenant_domains: trimmed, lowercase, no trailing
+ * dot or port, punycode for IDNs. Plain ASCII hosts take a single-scan fast path with no regex or
+ * IDN work, and results are memoized per raw header value so a repeated host costs one hash lookup.
+ */
 public final class DomainNormalizer {
 
+  // Distinct Host headers seen in practice number in the low thousands
+  private static final int MAX_MEMO_ENTRIES = 4096;
+  // Longer values are not valid hosts anyway and are not worth memoizing
+  private static final int MAX_MEMO_KEY_LENGTH = 255;
+  private static final int MAX_LABEL_LENGTH = 63;
+
+  private static final Cache<String, Optional<String>> MEMO = Caffeine.newBuilder()
+      .maximumSize(MAX_MEMO_ENTRIES)
+      .build();
+
   private DomainNormalizer() {}
 
   public static String normalizeHostHeader(String hostHeader) {
     if (hostHeader == null) return null;
+    if (hostHeader.length() > MAX_MEMO_KEY_LENGTH) {
+      return normalizeUncached(hostHeader);
+    }
+    return MEMO.get(hostHeader, h -> Optional.ofNullable(normalizeUncached(h))).orElse(null);
+  }
+
+  static String normalizeUncached(String hostHeader) {
+    String ascii = normalizeAscii(hostHeader);
+    return ascii != null ? ascii : normalizeGeneral(hostHeader);
+  }
+
+  /**
+   * Handles hosts made only of ASCII letters, digits, hyphens and dots with non-empty labels of at
+   * most 63 chars, plus an optional numeric port. IDN conversion is the identity for these, so
+   * only lowercasing is needed. Returns null when the header is outside that subset.
+   */
+  private static String normalizeAscii(String h) {
+    int start = 0;
+    int end = h.length();
+    while (start < end && h.charAt(start) <= ' ') start++;
+    while (end > start && h.charAt(end - 1) <= ' ') end--;
+    if (end > start && h.charAt(end - 1) == '.') end--;
+
+    boolean hasUpper = false;
+    int labelLength = 0;
+    int hostEnd = end;
+    for (int i = start; i < end; i++) {
+      char c = h.charAt(i);
+      if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-') {
+        labelLength++;
+      } else if (c >= 'A' && c <= 'Z') {
+        hasUpper = true;
+        labelLength++;
+      } else if (c == '.') {
+        if (labelLength == 0) return null;
+        labelLength = 0;
+      } else if (c == ':') {
+        hostEnd = i;
+        break;
+      } else {
+        return null;
+      }
+      if (labelLength > MAX_LABEL_LENGTH) return null;
+    }
+    // Empty host, or a dot before the port (kept by IDN, left to the general path)
+    if (labelLength == 0) return null;
+    if (hostEnd < end && !isPort(h, hostEnd + 1, end)) return null;
+
+    if (!hasUpper) {
+      return start == 0 && hostEnd == h.length() ? h : h.substring(start, hostEnd);
+    }
+    char[] out = new char[hostEnd - start];
+    for (int i = start; i < hostEnd; i++) {
+      char c = h.charAt(i);
+      out[i - start] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    return new String(out);
+  }
+
+  private static String normalizeGeneral(String hostHeader) {
     String host = hostHeader.trim();
     if (host.isEmpty()) return null;
 
     // Lowercase early and trim trailing dot for uniform checks
-    host = host.toLowerCase();
+    host = host.toLowerCase(Locale.ROOT);
     if (host.endsWith(".")) {
       host = host.substring(0, host.length() - 1);
     }
@@ -25,8 +104,7 @@ public final class DomainNormalizer {
     // If a colon remains, it must be a numeric port. Otherwise it's invalid (e.g., http:example)
     int colon = host.indexOf(':');
     if (colon > -1) {
-      String port = host.substring(colon + 1);
-      if (!port.matches("\\d{1,5}")) {
+      if (!isPort(host, colon + 1, host.length())) {
         return null;
       }
       host = host.substring(0, colon);
@@ -41,4 +119,14 @@ public final class DomainNormalizer {
 
     return host;
   }
+
+  private static boolean isPort(String s, int from, int to) {
+    int length = to - from;
+    if (length < 1 || length > 5) return false;
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') return false;
+    }
+    return true;
+  }
 }
@@ -1,56 +1,96 @@
 package com.rhettharrison.cms.platform.common.util;
 
+import java.util.Locale;
+
+/**
+ * Normalizes request and stored paths: trims, treats backslashes as slashes, collapses duplicate
+ * slashes, resolves "." and ".." (never above root), drops the trailing slash and lowercases.
+ * Runs in a single pass without regex; an already-normalized ASCII path is returned as the same
+ * instance with no allocation.
+ */
 public final class PathNormalizer {
 
   private PathNormalizer() {}
 
   public static String normalize(String input) {
     if (input == null) return null;
-    String p = input.trim();
-    if (p.isEmpty()) return "/";
 
-    // Ensure leading slash
-    if (!p.startsWith("/")) {
-      p = "/" + p;
+    int start = 0;
+    int end = input.length();
+    while (start < end && input.charAt(start) <= ' ') start++;
+    while (end > start && input.charAt(end - 1) <= ' ') end--;
+    if (start == end) return "/";
+
+    if (start == 0 && end == input.length() && isNormalized(input)) {
+      return input;
     }
+    return rebuild(input, start, end);
+  }
 
-    // Replace backslashes with forward slashes
-    p = p.replace('\\', '/');
+  /**
+   * True when the path already has the canonical form: leading slash, lowercase ASCII, no empty,
+   * "." or ".." segments and no trailing slash (except root).
+   */
+  private static boolean isNormalized(String p) {
+    int len = p.length();
+    if (p.charAt(0) != '/') return false;
+    if (len == 1) return true;
+    if (p.charAt(len - 1) == '/') return false;
 
-    // Collapse duplicate slashes
-    p = p.replaceAll("/+", "/");
+    int segmentStart = 1;
+    for (int i = 1; i <= len; i++) {
+      char c = i < len ? p.charAt(i) : '/';
+      if (c == '/') {
+        int segmentLength = i - segmentStart;
+        if (segmentLength == 0 || isDotSegment(p, segmentStart, i)) return false;
+        segmentStart = i + 1;
+      } else if (c >= 0x80 || c == '\\' || (c >= 'A' && c <= 'Z')) {
+        return false;
+      }
+    }
+    return true;
+  }
 
-    // Resolve dot segments (basic): remove '/./'
-    p = p.replace("/./", "/");
+  private static String rebuild(String input, int start, int end) {
+    StringBuilder sb = new StringBuilder(end - start + 1);
+    int segmentStart = start;
+    for (int i = start; i <= end; i++) {
+      char c = i < end ? input.charAt(i) : '/';
+      if (c != '/' && c != '\\') continue;
 
-    // Remove any trailing slash except root
-    if (p.length() > 1 && p.endsWith("/")) {
-      p = p.substring(0, p.length() - 1);
+      if (i > segmentStart) {
+        if (isDotSegment(input, segmentStart, i)) {
+          if (i - segmentStart == 2) {
+            // ".." drops the previous segment; at root it is ignored
+            sb.setLength(Math.max(0, sb.lastIndexOf("/")));
+          }
+        } else {
+          sb.append('/');
+          appendLowerCase(sb, input, segmentStart, i);
+        }
+      }
+      segmentStart = i + 1;
     }
+    return sb.isEmpty() ? "/" : sb.toString();
+  }
+
+  private static boolean isDotSegment(CharSequence s, int from, int to) {
+    int n = to - from;
+    return (n == 1 && s.charAt(from) == '.')
+        || (n == 2 && s.charAt(from) == '.' && s.charAt(from + 1) == '.');
+  }
 
-    // Lowercase for case-insensitivity
-    p = p.toLowerCase();
-
-    // Prevent going above root using naive '..' removal
-    // Safer approach would be to split and rebuild
-    String[] parts = p.split("/");
-    java.util.Deque<String> stack = new java.util.ArrayDeque<>();
-    for (String part : parts) {
-      if (part.isEmpty()) continue;
-      if (part.equals("..")) {
-        if (!stack.isEmpty()) stack.removeLast();
-      } else if (!part.equals(".")) {
-        stack.addLast(part);
+  private static void appendLowerCase(StringBuilder sb, String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) >= 0x80) {
+        // Non-ASCII: defer to the JDK for multi-char and context-sensitive mappings (e.g. final sigma)
+        sb.append(s.substring(from, to).toLowerCase(Locale.ROOT));
+        return;
       }
     }
-    StringBuilder sb = new StringBuilder("/");
-    boolean first = true;
-    for (String seg : stack) {
-      if (!first) sb.append('/');
-      sb.append(seg);
-      first = false;
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      sb.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
     }
-    String result = sb.toString();
-    return result.isEmpty() ? "/" : result;
   }
 }
@@ -0,0 +1,32 @@
+package com.rhettharrison.cms.platform.config;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantAwareExecutor;
+import com.rhettharrison.cms.platform.common.tenant.TenantAwareTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AsyncConfig {
+
+  // Also picked up by Spring Boot for the auto-configured applicationTaskExecutor
+  @Bean
+  public TenantAwareTaskDecorator tenantAwareTaskDecorator() {
+    return new TenantAwareTaskDecorator();
+  }
+
+  @Bean
+  public TenantAwareExecutor tenantTaskExecutor(
+      TenantAwareTaskDecorator decorator,
+      MeterRegistry meterRegistry,
+      @Value("${app.tenant-executor.core-size:4}") int coreSize,
+      @Value("${app.tenant-executor.max-size:16}") int maxSize,
+      @Value("${app.tenant-executor.queue-capacity:1000}") int queueCapacity,
+      @Value("${app.tenant-executor.per-tenant-concurrency:2}") int perTenantConcurrency,
+      @Value("${app.tenant-executor.per-tenant-queue-capacity:500}") int perTenantQueueCapacity
+  ) {
+    return new TenantAwareExecutor(decorator, meterRegistry, coreSize, maxSize, queueCapacity,
+        perTenantConcurrency, perTenantQueueCapacity);
+  }
+}
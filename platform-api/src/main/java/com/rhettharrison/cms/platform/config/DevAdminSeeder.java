@@ -60,18 +60,15 @@ public class DevAdminSeeder {
 
       String passwordHash = passwordEncoder.encode(seedPassword);
 
-      // Set TenantContext so TenantEntityListener assigns tenant_id on persist
-      TenantContext.setTenantId(tenantId);
-      try {
+      // Bind the tenant so TenantEntityListener assigns tenant_id on persist
+      TenantContext.runWith(tenantId, () -> {
         User u = new User();
         u.setUsername(seedUsername);
         u.setPasswordHash(passwordHash);
         u.setRoles(seedRoles);
         userRepository.save(u);
-        log.warn("DevAdminSeeder: created admin user '{}' for default tenant with a DEVELOPMENT password. Change in local env!", seedUsername);
-      } finally {
-        TenantContext.clear();
-      }
+      });
+      log.warn("DevAdminSeeder: created admin user '{}' for default tenant with a DEVELOPMENT password. Change in local env!", seedUsername);
     };
   }
 }
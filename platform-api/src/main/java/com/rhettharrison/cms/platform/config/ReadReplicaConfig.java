@@ -0,0 +1,82 @@
+package com.rhettharrison.cms.platform.config;
+
+import com.rhettharrison.cms.platform.common.datasource.ReplicaLagMonitor;
+import com.rhettharrison.cms.platform.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured DataSource when app.read-replicas.enabled is set. The application
+ * DataSource is a LazyConnectionDataSourceProxy: the physical connection is only fetched at the
+ * first statement, after the transaction's read-only flag is known, and read-only connections are
+ * taken from the ReplicaRoutingDataSource. Flyway, Hibernate bootstrap and every read-write
+ * transaction use the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      MeterRegistry meterRegistry,
+      @Value("${spring.datasource.url}") String primaryUrl,
+      @Value("${spring.datasource.username}") String primaryUsername,
+      @Value("${spring.datasource.password}") String primaryPassword,
+      @Value("${app.read-replicas.urls}") List<String> replicaUrls,
+      @Value("${app.read-replicas.username:${spring.datasource.username}}") String replicaUsername,
+      @Value("${app.read-replicas.password:${spring.datasource.password}}") String replicaPassword,
+      @Value("${app.read-replicas.pool-size:10}") int replicaPoolSize,
+      @Value("${app.read-replicas.pin-window:PT5S}") Duration pinWindow
+  ) {
+    // Same pool size as the auto-configured Hikari default
+    HikariDataSource primary = pool("primary", primaryUrl, primaryUsername, primaryPassword, 10, false);
+    List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+    for (int i = 0; i < replicaUrls.size(); i++) {
+      String name = "replica-" + i;
+      replicas.add(new ReplicaRoutingDataSource.Replica(name,
+          pool(name, replicaUrls.get(i), replicaUsername, replicaPassword, replicaPoolSize, true)));
+    }
+    return new ReplicaRoutingDataSource(primary, replicas, pinWindow, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    LazyConnectionDataSourceProxy proxy =
+        new LazyConnectionDataSourceProxy(replicaRoutingDataSource.readWriteDataSource());
+    proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+    return proxy;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      ReplicaRoutingDataSource replicaRoutingDataSource,
+      @Value("${app.read-replicas.max-lag:PT2S}") Duration maxLag,
+      @Value("${app.read-replicas.lag-check-interval:PT1S}") Duration interval
+  ) {
+    return new ReplicaLagMonitor(replicaRoutingDataSource, maxLag, interval);
+  }
+
+  // Pools start on first use, so a replica that is down at boot only drops out of rotation
+  private static HikariDataSource pool(String name, String url, String username, String password,
+      int maxPoolSize, boolean readOnly) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(name);
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    dataSource.setMaximumPoolSize(maxPoolSize);
+    dataSource.setReadOnly(readOnly);
+    return dataSource;
+  }
+}
@@ -1,7 +1,10 @@
 package com.rhettharrison.cms.platform.config;
 
 import com.rhettharrison.cms.platform.security.JwtAuthenticationFilter;
+import com.rhettharrison.cms.platform.security.PasswordEncoders;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,7 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -39,7 +41,11 @@ public class SecurityConfig {
                 "/swagger-ui/**"
             ).permitAll()
             // Public read API (screens)
-            .requestMatchers(HttpMethod.GET, "/api/v1/screens").permitAll()
+            .requestMatchers(HttpMethod.GET, "/api/v1/screens", "/api/v1/screens/tree").permitAll()
+            // Public sitemaps
+            .requestMatchers(HttpMethod.GET, "/sitemap.xml", "/sitemaps/*").permitAll()
+            // Actuator (metrics are platform-internal)
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().authenticated()
         );
 
@@ -49,7 +55,21 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${app.password.algorithm:bcrypt}") String algorithm,
+      @Value("${app.password.bcrypt.strength:10}") int bcryptStrength,
+      @Value("${app.password.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+      @Value("${app.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+      @Value("${app.password.argon2.iterations:2}") int argon2Iterations,
+      @Value("${app.password.argon2.parallelism:1}") int argon2Parallelism,
+      @Value("${app.password.calibration.enabled:false}") boolean calibrate,
+      @Value("${app.password.calibration.target:PT0.25S}") Duration calibrationTarget
+  ) {
+    PasswordEncoders.Settings settings = new PasswordEncoders.Settings(
+        algorithm, bcryptStrength, pbkdf2Iterations, argon2MemoryKib, argon2Iterations, argon2Parallelism);
+    if (calibrate) {
+      settings = PasswordEncoders.calibrate(settings, calibrationTarget);
+    }
+    return PasswordEncoders.delegating(settings);
   }
 }
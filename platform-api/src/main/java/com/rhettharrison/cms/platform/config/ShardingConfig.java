@@ -0,0 +1,190 @@
+package com.rhettharrison.cms.platform.config;
+
+import com.rhettharrison.cms.platform.common.cache.PostgresCacheInvalidationListener;
+import com.rhettharrison.cms.platform.common.datasource.TenantShardDirectory;
+import com.rhettharrison.cms.platform.common.datasource.TenantShardMover;
+import com.rhettharrison.cms.platform.common.datasource.TenantShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Tenant sharding, enabled with app.shards.enabled. The main database (spring.datasource.*) keeps
+ * the directory (tenants, tenant_domains, tenant_shards) and every tenant without a shard row;
+ * each id in app.shards.ids is another database configured under app.shards.&lt;id&gt;.url
+ * (credentials default to the main ones). Shards are migrated with the same Flyway scripts at
+ * startup and get their own cache invalidation listener.
+ *
+ * Move a tenant with a one-off run:
+ * {@code java -jar platform.jar --spring.main.web-application-type=none --move-tenant=<uuid> --to-shard=<id>}
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.shards.enabled", havingValue = "true")
+public class ShardingConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+  public ShardingConfig(@Value("${app.read-replicas.enabled:false}") boolean readReplicasEnabled) {
+    if (readReplicasEnabled) {
+      throw new IllegalStateException("app.shards.enabled and app.read-replicas.enabled cannot be combined yet");
+    }
+  }
+
+  @Bean(destroyMethod = "close")
+  public HikariDataSource mainShardDataSource(
+      @Value("${spring.datasource.url}") String url,
+      @Value("${spring.datasource.username}") String username,
+      @Value("${spring.datasource.password}") String password
+  ) {
+    return pool(TenantShardDirectory.MAIN_SHARD, url, username, password, 10);
+  }
+
+  @Bean
+  public TenantShardDirectory tenantShardDirectory(HikariDataSource mainShardDataSource) {
+    return new TenantShardDirectory(new JdbcTemplate(mainShardDataSource));
+  }
+
+  @Bean
+  public TenantShardRoutingDataSource tenantShardRoutingDataSource(
+      Environment environment,
+      HikariDataSource mainShardDataSource,
+      TenantShardDirectory tenantShardDirectory,
+      @Value("${app.shards.ids}") List<String> shardIds,
+      @Value("${app.shards.pool-size:10}") int poolSize,
+      @Value("${spring.flyway.locations:classpath:db/migration}") List<String> flywayLocations
+  ) {
+    Map<String, DataSource> shards = new LinkedHashMap<>();
+    shards.put(TenantShardDirectory.MAIN_SHARD, mainShardDataSource);
+    for (String id : shardIds) {
+      if (shards.containsKey(id)) {
+        throw new IllegalArgumentException("Duplicate shard id: " + id);
+      }
+      HikariDataSource shard = pool(id, shardUrl(environment, id), shardUsername(environment, id),
+          shardPassword(environment, id), poolSize);
+      Flyway.configure()
+          .dataSource(shard)
+          .locations(flywayLocations.toArray(String[]::new))
+          .load()
+          .migrate();
+      shards.put(id, shard);
+    }
+    log.info("Tenant sharding enabled with shards {}", shards.keySet());
+    return new TenantShardRoutingDataSource(tenantShardDirectory, shards);
+  }
+
+  // A separate bean so wrappers of the application DataSource (see TenantBulkheadConfig) do not
+  // hide the routing type from the mover
+  @Bean
+  @Primary
+  public DataSource dataSource(TenantShardRoutingDataSource tenantShardRoutingDataSource) {
+    return new DelegatingDataSource(tenantShardRoutingDataSource);
+  }
+
+  @Bean
+  public TenantShardMover tenantShardMover(
+      TenantShardRoutingDataSource tenantShardRoutingDataSource,
+      HikariDataSource mainShardDataSource,
+      @Value("${app.shards.move.freeze-grace:PT2S}") Duration freezeGrace
+  ) {
+    return new TenantShardMover(tenantShardRoutingDataSource, new JdbcTemplate(mainShardDataSource), freezeGrace);
+  }
+
+  /**
+   * Screen and user triggers fire in the shard that holds the rows, so each shard needs a listener.
+   */
+  @Bean
+  public SmartLifecycle shardCacheInvalidationListeners(
+      Environment environment,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.shards.ids}") List<String> shardIds,
+      @Value("${app.cache-bus.enabled:true}") boolean enabled,
+      @Value("${app.cache-bus.poll-timeout:PT10S}") Duration pollTimeout,
+      @Value("${app.cache-bus.reconnect-backoff:PT1S}") Duration reconnectBackoff
+  ) {
+    List<PostgresCacheInvalidationListener> listeners = new ArrayList<>();
+    for (String id : shardIds) {
+      listeners.add(new PostgresCacheInvalidationListener(eventPublisher, enabled, shardUrl(environment, id),
+          shardUsername(environment, id), shardPassword(environment, id), pollTimeout, reconnectBackoff));
+    }
+    return new SmartLifecycle() {
+      @Override
+      public void start() {
+        listeners.forEach(PostgresCacheInvalidationListener::start);
+      }
+
+      @Override
+      public void stop() {
+        listeners.forEach(PostgresCacheInvalidationListener::stop);
+      }
+
+      @Override
+      public boolean isRunning() {
+        return listeners.stream().anyMatch(PostgresCacheInvalidationListener::isRunning);
+      }
+    };
+  }
+
+  @Bean
+  public ApplicationRunner tenantMoveCommand(TenantShardMover tenantShardMover, ApplicationContext context) {
+    return args -> {
+      if (!args.containsOption("move-tenant")) {
+        return;
+      }
+      UUID tenantId = UUID.fromString(args.getOptionValues("move-tenant").getFirst());
+      String target = args.getOptionValues("to-shard").getFirst();
+      int exitCode = 0;
+      try {
+        TenantShardMover.MoveResult result = tenantShardMover.move(tenantId, target);
+        log.info("Tenant move complete: {}", result);
+      } catch (RuntimeException e) {
+        log.error("Tenant move failed; tenant {} stays on its current shard", tenantId, e);
+        exitCode = 1;
+      }
+      int code = exitCode;
+      System.exit(SpringApplication.exit(context, () -> code));
+    };
+  }
+
+  private static String shardUrl(Environment environment, String id) {
+    return environment.getRequiredProperty("app.shards." + id + ".url");
+  }
+
+  private static String shardUsername(Environment environment, String id) {
+    return environment.getProperty("app.shards." + id + ".username", environment.getProperty("spring.datasource.username"));
+  }
+
+  private static String shardPassword(Environment environment, String id) {
+    return environment.getProperty("app.shards." + id + ".password", environment.getProperty("spring.datasource.password"));
+  }
+
+  private static HikariDataSource pool(String name, String url, String username, String password, int maxPoolSize) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("shard-" + name);
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    dataSource.setMaximumPoolSize(maxPoolSize);
+    return dataSource;
+  }
+}
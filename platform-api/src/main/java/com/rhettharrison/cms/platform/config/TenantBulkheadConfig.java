@@ -0,0 +1,54 @@
+package com.rhettharrison.cms.platform.config;
+
+import com.rhettharrison.cms.platform.common.datasource.TenantBulkheadDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Wraps the application DataSource (the bean named dataSource, whichever configuration created it)
+ * in a TenantBulkheadDataSource. Tenants listed under app.db-bulkhead.weights.&lt;uuid&gt; get that
+ * many shares of freed permits; the rest get one.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db-bulkhead.enabled", havingValue = "true")
+public class TenantBulkheadConfig {
+
+  // Static so the post-processor is registered before the DataSource is created
+  @Bean
+  static BeanPostProcessor tenantBulkheadInstaller(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+            || bean instanceof TenantBulkheadDataSource) {
+          return bean;
+        }
+        return new TenantBulkheadDataSource(dataSource, settings(environment), meterRegistry.getObject());
+      }
+    };
+  }
+
+  private static TenantBulkheadDataSource.Settings settings(Environment environment) {
+    Binder binder = Binder.get(environment);
+    Map<UUID, Integer> weights = binder.bind("app.db-bulkhead.weights", Bindable.mapOf(UUID.class, Integer.class))
+        .orElse(Map.of());
+    return new TenantBulkheadDataSource.Settings(
+        binder.bind("app.db-bulkhead.permits", Integer.class).orElse(8),
+        binder.bind("app.db-bulkhead.per-tenant-max", Integer.class).orElse(4),
+        binder.bind("app.db-bulkhead.per-tenant-queue-capacity", Integer.class).orElse(16),
+        binder.bind("app.db-bulkhead.max-wait", Duration.class).orElse(Duration.ofSeconds(1)),
+        binder.bind("app.db-bulkhead.retry-after", Duration.class).orElse(Duration.ofSeconds(1)),
+        weights);
+  }
+}
@@ -0,0 +1,51 @@
+package com.rhettharrison.cms.platform.config;
+
+import com.rhettharrison.cms.platform.common.tenant.TenancyMode;
+import com.rhettharrison.cms.platform.common.tenant.TenantAwareJpaDialect;
+import com.rhettharrison.cms.platform.common.tenant.TenantIdentifierResolver;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+@Configuration
+public class TenantJpaConfig {
+
+  // Static so the post-processor is registered before the entity manager factory is created
+  @Bean
+  static BeanPostProcessor tenantAwareJpaDialectInstaller(Environment environment) {
+    TenancyMode mode = TenancyMode.from(environment.getProperty("app.tenancy.mode", "filter"));
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof LocalContainerEntityManagerFactoryBean factoryBean) {
+          // Must be set before afterPropertiesSet, which otherwise takes the vendor adapter's dialect
+          factoryBean.setJpaDialect(new TenantAwareJpaDialect());
+          Map<String, Object> properties = factoryBean.getJpaPropertyMap();
+          // @TenantId on TenantAwareEntity needs a resolver in every mode; FILTER sessions are all root
+          properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver(mode));
+          if (mode == TenancyMode.DISCRIMINATOR) {
+            enableSecondLevelCache(properties);
+          }
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * JCache regions backed by Caffeine (bounds in application.conf), created on first use. Explicit
+   * spring.jpa.properties.* values win.
+   */
+  private static void enableSecondLevelCache(Map<String, Object> properties) {
+    properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+    properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+    properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+    properties.putIfAbsent("hibernate.javax.cache.provider",
+        "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+    properties.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create");
+  }
+}
@@ -1,19 +0,0 @@
-package com.rhettharrison.cms.platform.config;
-
-import com.rhettharrison.cms.platform.common.tenant.TenantFilterInterceptor;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-@Configuration
-@RequiredArgsConstructor
-public class WebConfig implements WebMvcConfigurer {
-
-  private final TenantFilterInterceptor tenantFilterInterceptor;
-
-  @Override
-  public void addInterceptors(InterceptorRegistry registry) {
-    registry.addInterceptor(tenantFilterInterceptor);
-  }
-}
@@ -1,9 +1,22 @@
 package com.rhettharrison.cms.platform.domain.model;
 
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+// Read-only transactions let tenant resolution reads go to a replica (ReplicaReads)
+@Transactional(readOnly = true)
 public interface TenantRepository extends JpaRepository<Tenant, UUID> {
+  // Own query cache region, so invalidations can drop these results without the others
+  String QUERY_CACHE_REGION = "tenant-queries";
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
   Optional<Tenant> findBySlug(String slug);
 }
@@ -0,0 +1,10 @@
+package com.rhettharrison.cms.platform.domain.model.screen;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A published screen as the finished public response body (UTF-8 JSON built by Postgres), with the
+ * version columns needed for its ETag and Last-Modified.
+ */
+public record PublishedScreenJson(UUID id, Instant updatedAt, byte[] body) {}
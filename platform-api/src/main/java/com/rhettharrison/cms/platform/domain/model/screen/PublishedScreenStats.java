@@ -0,0 +1,9 @@
+package com.rhettharrison.cms.platform.domain.model.screen;
+
+import java.time.Instant;
+
+/**
+ * Count and latest updatedAt of a tenant's indexable published screens. Together they change
+ * whenever a screen is published, edited, unpublished or deleted, so they version derived output.
+ */
+public record PublishedScreenStats(long count, Instant lastUpdatedAt) {}
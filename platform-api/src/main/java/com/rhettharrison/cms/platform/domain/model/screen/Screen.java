@@ -6,6 +6,8 @@ import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -14,6 +16,9 @@ import lombok.Setter;
         @UniqueConstraint(columnNames = {"tenant_id", "path"})
     }
 )
+// Second-level cached only in DISCRIMINATOR tenancy mode, where cache keys carry the tenant
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 public class Screen extends TenantAwareEntity {
@@ -0,0 +1,333 @@
+package com.rhettharrison.cms.platform.domain.model.screen;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC access for bulk and streaming screen reads/writes (import/export, subtree listing).
+ * Bypasses the JPA tenant filter, so every statement binds tenant_id explicitly; callers pass the
+ * tenant from TenantContext.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScreenBulkRepository {
+
+  static final int EXPORT_FETCH_SIZE = 500;
+
+  // Conflicts on the case-insensitive (tenant_id, lower(path)) index are reported as 0 rows
+  private static final String INSERT_SQL = """
+      INSERT INTO screens (id, tenant_id, path, type, content, status, published_at,
+                           redirect_target_url, redirect_status, created_at, updated_at)
+      VALUES (?, ?, ?, ?, CAST(COALESCE(?, '{}') AS jsonb), ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (tenant_id, lower(path)) DO NOTHING
+      """;
+
+  // Ordered by lower(path) so uq_screens_tenant_lower_path (V7) serves the scan without a sort
+  private static final String EXPORT_SQL = """
+      SELECT id, path, type, content, status, published_at, redirect_target_url, redirect_status,
+             created_at, updated_at
+      FROM screens
+      WHERE tenant_id = ?
+      ORDER BY lower(path)
+      """;
+
+  // Range predicate on lower(path) COLLATE "C" matches idx_screens_published_path_prefix (V11)
+  private static final String SUBTREE_SQL = """
+      SELECT id, path, type, status, published_at, redirect_target_url, redirect_status, updated_at
+      FROM screens
+      WHERE tenant_id = ?
+        AND status = 'PUBLISHED'
+        AND (lower(path) COLLATE "C" = ?
+             OR (lower(path) COLLATE "C" >= ? AND lower(path) COLLATE "C" < ?))
+      ORDER BY lower(path) COLLATE "C"
+      """;
+
+  // Sitemap pages: indexable (non-redirect) published screens in index order, seeking past the
+  // previous shard's last key on idx_screens_published_path_prefix (V11) instead of an OFFSET
+  private static final String SITEMAP_PAGE_SQL = """
+      SELECT id, path, type, status, published_at, redirect_target_url, redirect_status, updated_at
+      FROM screens
+      WHERE tenant_id = ?
+        AND status = 'PUBLISHED'
+        AND type <> 'REDIRECT'
+        AND lower(path) COLLATE "C" > ?
+      ORDER BY lower(path) COLLATE "C"
+      LIMIT ?
+      """;
+
+  private static final String SITEMAP_KEYS_SQL = """
+      SELECT lower(path) COLLATE "C" AS path_key
+      FROM screens
+      WHERE tenant_id = ?
+        AND status = 'PUBLISHED'
+        AND type <> 'REDIRECT'
+      ORDER BY lower(path) COLLATE "C"
+      """;
+
+  private static final String SITEMAP_STATS_SQL = """
+      SELECT count(*), max(updated_at)
+      FROM screens
+      WHERE tenant_id = ?
+        AND status = 'PUBLISHED'
+        AND type <> 'REDIRECT'
+      """;
+
+  private static final String REDIRECTS_SQL = """
+      SELECT path, redirect_target_url, redirect_status
+      FROM screens
+      WHERE tenant_id = ?
+        AND status = 'PUBLISHED'
+        AND type = 'REDIRECT'
+      """;
+
+  private static final String REDIRECT_BY_PATH_SQL = """
+      SELECT path, redirect_target_url, redirect_status
+      FROM screens
+      WHERE tenant_id = ?
+        AND lower(path) = ?
+        AND status = 'PUBLISHED'
+        AND type = 'REDIRECT'
+      """;
+
+  /*
+   * Public screen response built in Postgres, byte for byte what ScreenJsonWriter writes for a
+   * ScreenDto: same field order, compact separators, nulls included (json_build_object would add
+   * spaces). content stays a JSON string, as in the public API, holding jsonb's text form just as
+   * Hibernate reads it. published_at is stored in the JVM zone, which the driver sends as the
+   * session TimeZone, and is formatted like Instant.toString(): UTC with 0, 3 or 6 fraction digits.
+   */
+  private static final String PUBLISHED_JSON_SQL = """
+      SELECT id, updated_at,
+             '{"id":' || to_json(id)::text
+             || ',"path":' || to_json(path)::text
+             || ',"type":' || to_json(type)::text
+             || ',"status":' || to_json(status)::text
+             || ',"content":' || to_json(content::text)::text
+             || ',"publishedAt":' || coalesce(to_json(regexp_replace(
+                    to_char(published_at::timestamptz AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US'),
+                    '(\\.000)?000$', '') || 'Z')::text, 'null')
+             || ',"redirectTargetUrl":' || coalesce(to_json(redirect_target_url)::text, 'null')
+             || ',"redirectStatus":' || coalesce(redirect_status::text, 'null')
+             || '}' AS body
+      FROM screens
+      WHERE tenant_id = ?
+        AND path = ?
+        AND status = 'PUBLISHED'
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts one chunk in a single transaction using a JDBC batch. Ids and timestamps are assigned
+   * here so the result can be reported per row. Returns the update count per screen: 1 when
+   * inserted, 0 when the path already exists (or repeats earlier in the same import).
+   */
+  @Transactional
+  public int[] insertBatch(UUID tenantId, List<Screen> screens) {
+    if (screens.isEmpty()) {
+      return new int[0];
+    }
+    Instant now = Instant.now();
+    Timestamp nowTs = Timestamp.from(now);
+    return jdbcTemplate.batchUpdate(INSERT_SQL, screens, screens.size(), (PreparedStatement ps, Screen s) -> {
+      if (s.getId() == null) {
+        s.setId(UUID.randomUUID());
+      }
+      s.setCreatedAt(now);
+      s.setUpdatedAt(now);
+      if (s.getStatus() == ScreenStatus.PUBLISHED && s.getPublishedAt() == null) {
+        s.setPublishedAt(now);
+      }
+      ps.setObject(1, s.getId());
+      ps.setObject(2, tenantId);
+      ps.setString(3, s.getPath());
+      ps.setString(4, s.getType().name());
+      ps.setString(5, s.getContent());
+      ps.setString(6, s.getStatus().name());
+      ps.setTimestamp(7, s.getPublishedAt() != null ? Timestamp.from(s.getPublishedAt()) : null);
+      ps.setString(8, s.getRedirectTargetUrl());
+      if (s.getRedirectStatus() != null) {
+        ps.setInt(9, s.getRedirectStatus());
+      } else {
+        ps.setNull(9, Types.INTEGER);
+      }
+      ps.setTimestamp(10, nowTs);
+      ps.setTimestamp(11, nowTs);
+    })[0];
+  }
+
+  /**
+   * Streams every screen of the tenant to the consumer in path order. Runs in a read-only
+   * transaction so the PostgreSQL driver uses a server-side cursor and only holds one fetch
+   * of rows in memory at a time.
+   */
+  @Transactional(readOnly = true)
+  public void forEachScreen(UUID tenantId, Consumer<Screen> consumer) {
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(EXPORT_FETCH_SIZE);
+      ps.setObject(1, tenantId);
+      return ps;
+    }, rs -> {
+      consumer.accept(mapRow(rs));
+    });
+  }
+
+  /**
+   * Streams published screens at or below the normalized path, in path order, without content.
+   * "/blog" yields "/blog" and "/blog/..." but not "/blogger"; "/" yields every published screen.
+   */
+  @Transactional(readOnly = true)
+  public void forEachPublishedInSubtree(UUID tenantId, String normalizedPath, Consumer<Screen> consumer) {
+    String root = normalizedPath.toLowerCase(Locale.ROOT);
+    String childPrefix = root.endsWith("/") ? root : root + "/";
+    // Smallest string greater than every string starting with childPrefix: bump the trailing '/' to '0'
+    String childUpperBound = childPrefix.substring(0, childPrefix.length() - 1) + (char) ('/' + 1);
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(SUBTREE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(EXPORT_FETCH_SIZE);
+      ps.setObject(1, tenantId);
+      ps.setString(2, root);
+      ps.setString(3, childPrefix);
+      ps.setString(4, childUpperBound);
+      return ps;
+    }, rs -> {
+      consumer.accept(mapSummaryRow(rs));
+    });
+  }
+
+  @Transactional(readOnly = true)
+  public PublishedScreenStats publishedIndexableStats(UUID tenantId) {
+    return jdbcTemplate.queryForObject(SITEMAP_STATS_SQL,
+        (rs, rowNum) -> new PublishedScreenStats(rs.getLong(1), toInstant(rs.getTimestamp(2))), tenantId);
+  }
+
+  /**
+   * Keys at which each sitemap shard of shardSize indexable screens starts: one exclusive lower
+   * bound for forEachPublishedIndexable per shard, "" for the first. Computed in one streaming pass
+   * over the path index, reading keys only.
+   */
+  @Transactional(readOnly = true)
+  public List<String> publishedIndexableShardStarts(UUID tenantId, int shardSize) {
+    List<String> starts = new ArrayList<>();
+    starts.add("");
+    long[] rows = new long[1];
+    String[] previous = new String[1];
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(SITEMAP_KEYS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(EXPORT_FETCH_SIZE);
+      ps.setObject(1, tenantId);
+      return ps;
+    }, rs -> {
+      if (rows[0] > 0 && rows[0] % shardSize == 0) {
+        starts.add(previous[0]);
+      }
+      previous[0] = rs.getString("path_key");
+      rows[0]++;
+    });
+    return starts;
+  }
+
+  /**
+   * Streams up to limit indexable published screens (no redirects, no content) whose lower-cased
+   * path sorts after afterKey ("" for the first page), in path order.
+   */
+  @Transactional(readOnly = true)
+  public void forEachPublishedIndexable(UUID tenantId, String afterKey, int limit, Consumer<Screen> consumer) {
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(SITEMAP_PAGE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(EXPORT_FETCH_SIZE);
+      ps.setObject(1, tenantId);
+      ps.setString(2, afterKey);
+      ps.setInt(3, limit);
+      return ps;
+    }, rs -> {
+      consumer.accept(mapSummaryRow(rs));
+    });
+  }
+
+  /**
+   * Streams every published redirect of the tenant (path, target and status only).
+   */
+  @Transactional(readOnly = true)
+  public void forEachPublishedRedirect(UUID tenantId, Consumer<Screen> consumer) {
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(REDIRECTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(EXPORT_FETCH_SIZE);
+      ps.setObject(1, tenantId);
+      return ps;
+    }, rs -> {
+      consumer.accept(mapRedirectRow(rs));
+    });
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<Screen> findPublishedRedirect(UUID tenantId, String normalizedPath) {
+    return jdbcTemplate.query(REDIRECT_BY_PATH_SQL, (rs, rowNum) -> mapRedirectRow(rs),
+        tenantId, normalizedPath.toLowerCase(Locale.ROOT)).stream().findFirst();
+  }
+
+  /**
+   * The published screen at the exact path as a finished response body, without an entity, a
+   * persistence context or Java-side serialization. The driver hands over the text column's raw
+   * UTF-8 bytes, so the body is never decoded into a String.
+   */
+  @Transactional(readOnly = true)
+  public Optional<PublishedScreenJson> findPublishedJson(UUID tenantId, String normalizedPath) {
+    List<PublishedScreenJson> rows = jdbcTemplate.query(PUBLISHED_JSON_SQL,
+        (rs, rowNum) -> new PublishedScreenJson(rs.getObject("id", UUID.class),
+            toInstant(rs.getTimestamp("updated_at")), rs.getBytes("body")),
+        tenantId, normalizedPath);
+    return rows.stream().findFirst();
+  }
+
+  private static Screen mapRedirectRow(ResultSet rs) throws SQLException {
+    Screen s = new Screen();
+    s.setPath(rs.getString("path"));
+    s.setType(ScreenType.REDIRECT);
+    s.setStatus(ScreenStatus.PUBLISHED);
+    s.setRedirectTargetUrl(rs.getString("redirect_target_url"));
+    int redirectStatus = rs.getInt("redirect_status");
+    s.setRedirectStatus(rs.wasNull() ? null : redirectStatus);
+    return s;
+  }
+
+  private static Screen mapSummaryRow(ResultSet rs) throws SQLException {
+    Screen s = new Screen();
+    s.setId(rs.getObject("id", UUID.class));
+    s.setPath(rs.getString("path"));
+    s.setType(ScreenType.valueOf(rs.getString("type")));
+    s.setStatus(ScreenStatus.valueOf(rs.getString("status")));
+    s.setPublishedAt(toInstant(rs.getTimestamp("published_at")));
+    s.setRedirectTargetUrl(rs.getString("redirect_target_url"));
+    int redirectStatus = rs.getInt("redirect_status");
+    s.setRedirectStatus(rs.wasNull() ? null : redirectStatus);
+    s.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+    return s;
+  }
+
+  private static Screen mapRow(ResultSet rs) throws SQLException {
+    Screen s = mapSummaryRow(rs);
+    s.setContent(rs.getString("content"));
+    s.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+    return s;
+  }
+
+  private static Instant toInstant(Timestamp ts) {
+    return ts != null ? ts.toInstant() : null;
+  }
+}
@@ -1,12 +1,53 @@
 package com.rhettharrison.cms.platform.domain.model.screen;
 
 import com.rhettharrison.cms.platform.common.repository.TenantAwareRepository;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ScreenRepository extends TenantAwareRepository<Screen, UUID> {
+  // Own query cache region, so invalidations can drop these results without the others
+  String QUERY_CACHE_REGION = "screen-queries";
+
   // Automatically scoped by tenant via Hibernate filter
   Optional<Screen> findByPath(String path);
 
+  // Query cache applies in DISCRIMINATOR tenancy mode only (the cache is off otherwise)
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+  })
   Optional<Screen> findByPathAndStatus(String path, ScreenStatus status);
+
+  // Version-only lookup (no content) for conditional GET revalidation
+  Optional<ScreenVersionView> findVersionByPathAndStatus(String path, ScreenStatus status);
+
+  /**
+   * Keyset page of screen summaries ordered by lower(path), starting after afterPath (exclusive,
+   * null for the first page). Status and type filters are optional. Ordering on lower(path) lets
+   * the (tenant_id, lower(path)) indexes serve both the seek and the sort.
+   */
+  @Query("""
+      select s.id as id, s.path as path, s.type as type, s.status as status,
+             s.publishedAt as publishedAt, s.updatedAt as updatedAt,
+             s.redirectTargetUrl as redirectTargetUrl, s.redirectStatus as redirectStatus
+      from Screen s
+      where s.tenantId = :tenantId
+        and (:afterPath is null or lower(s.path) > :afterPath)
+        and (:status is null or s.status = :status)
+        and (:type is null or s.type = :type)
+      order by lower(s.path)
+      """)
+  List<ScreenSummaryView> findSummariesAfter(
+      @Param("tenantId") UUID tenantId,
+      @Param("afterPath") String afterPath,
+      @Param("status") ScreenStatus status,
+      @Param("type") ScreenType type,
+      Limit limit);
 }
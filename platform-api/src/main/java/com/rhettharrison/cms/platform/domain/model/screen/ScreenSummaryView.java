@@ -0,0 +1,25 @@
+package com.rhettharrison.cms.platform.domain.model.screen;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Listing projection of a screen; deliberately excludes the jsonb content column.
+ */
+public interface ScreenSummaryView {
+  UUID getId();
+
+  String getPath();
+
+  ScreenType getType();
+
+  ScreenStatus getStatus();
+
+  Instant getPublishedAt();
+
+  Instant getUpdatedAt();
+
+  String getRedirectTargetUrl();
+
+  Integer getRedirectStatus();
+}
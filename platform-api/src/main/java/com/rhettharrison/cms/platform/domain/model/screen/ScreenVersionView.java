@@ -0,0 +1,13 @@
+package com.rhettharrison.cms.platform.domain.model.screen;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Lightweight projection used to answer conditional GETs without loading screen content.
+ */
+public interface ScreenVersionView {
+  UUID getId();
+
+  Instant getUpdatedAt();
+}
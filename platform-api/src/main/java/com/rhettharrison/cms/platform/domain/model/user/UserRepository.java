@@ -1,8 +1,13 @@
 package com.rhettharrison.cms.platform.domain.model.user;
 
 import com.rhettharrison.cms.platform.common.repository.TenantAwareRepository;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends TenantAwareRepository<User, UUID> {
   Optional<User> findByUsernameIgnoreCase(String username);
@@ -10,4 +15,20 @@ public interface UserRepository extends TenantAwareRepository<User, UUID> {
   // Explicit, tenant-keyed lookup for contexts where the Hibernate tenant filter
   // is not enabled (e.g., application startup seeders)
   Optional<User> findByTenantIdAndUsernameIgnoreCase(UUID tenantId, String username);
+
+  /**
+   * Replaces the password hash only if it still equals currentHash, so a password changed since the
+   * login that triggered the re-hash is never overwritten. Returns the number of rows updated.
+   */
+  @Modifying
+  @Transactional
+  @Query("""
+      update User u set u.passwordHash = :newHash, u.updatedAt = :updatedAt
+      where u.id = :id and u.passwordHash = :currentHash
+      """)
+  int updatePasswordHash(
+      @Param("id") UUID id,
+      @Param("currentHash") String currentHash,
+      @Param("newHash") String newHash,
+      @Param("updatedAt") Instant updatedAt);
 }
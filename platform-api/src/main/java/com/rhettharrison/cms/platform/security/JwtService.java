@@ -4,7 +4,11 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +22,7 @@ public class JwtService {
   private final JWTVerifier verifier;
   private final String issuer;
   private final long expirationSeconds;
+  private final byte[] keyFingerprint;
 
   public JwtService(
       @Value("${app.jwt.secret}") String secret,
@@ -28,6 +33,7 @@ public class JwtService {
     this.issuer = issuer;
     this.expirationSeconds = expirationSeconds;
     this.verifier = JWT.require(algorithm).withIssuer(issuer).build();
+    this.keyFingerprint = fingerprint(secret, issuer);
   }
 
   public String issueToken(UUID tenantId, String username, List<String> roles) {
@@ -46,4 +52,24 @@ public class JwtService {
   public DecodedJWT verify(String token) {
     return verifier.verify(token);
   }
+
+  /**
+   * Short digest identifying the signing key and issuer, so caches of verification results can be
+   * tied to the key that produced them. Never exposes the secret itself.
+   */
+  public byte[] keyFingerprint() {
+    return keyFingerprint.clone();
+  }
+
+  private static byte[] fingerprint(String secret, String issuer) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(secret.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(issuer.getBytes(StandardCharsets.UTF_8));
+      return Arrays.copyOf(digest.digest(), 8);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
 }
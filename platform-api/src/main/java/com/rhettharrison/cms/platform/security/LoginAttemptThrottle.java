@@ -0,0 +1,116 @@
+package com.rhettharrison.cms.platform.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory token buckets limiting login attempts per username (within a tenant) and per tenant.
+ * The username bucket slows guessing against one account; the tenant bucket caps credential
+ * stuffing spread across many usernames. Idle buckets are dropped after the refill window, by
+ * which time they would be full again anyway. Limits are per instance, not cluster-wide.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+  private static final Duration REFILL_WINDOW = Duration.ofMinutes(1);
+
+  private final LongSupplier nanoClock;
+  private final int usernameCapacity;
+  private final int tenantCapacity;
+  private final Cache<String, TokenBucket> usernameBuckets;
+  private final Cache<UUID, TokenBucket> tenantBuckets;
+  private final Counter usernameThrottled;
+  private final Counter tenantThrottled;
+
+  @Autowired
+  public LoginAttemptThrottle(
+      MeterRegistry meterRegistry,
+      @Value("${app.auth.throttle.username-per-minute:10}") int usernameCapacity,
+      @Value("${app.auth.throttle.tenant-per-minute:300}") int tenantCapacity,
+      @Value("${app.auth.throttle.max-tracked:100000}") long maxTracked
+  ) {
+    this(meterRegistry, usernameCapacity, tenantCapacity, maxTracked, System::nanoTime);
+  }
+
+  LoginAttemptThrottle(MeterRegistry meterRegistry, int usernameCapacity, int tenantCapacity,
+      long maxTracked, LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.usernameCapacity = usernameCapacity;
+    this.tenantCapacity = tenantCapacity;
+    this.usernameBuckets = Caffeine.newBuilder()
+        .maximumSize(maxTracked)
+        .expireAfterAccess(REFILL_WINDOW)
+        .build();
+    this.tenantBuckets = Caffeine.newBuilder()
+        .maximumSize(maxTracked)
+        .expireAfterAccess(REFILL_WINDOW)
+        .build();
+    this.usernameThrottled = Counter.builder("auth.login.throttled").tag("scope", "username")
+        .description("Login attempts refused by the per-username limit").register(meterRegistry);
+    this.tenantThrottled = Counter.builder("auth.login.throttled").tag("scope", "tenant")
+        .description("Login attempts refused by the per-tenant limit").register(meterRegistry);
+  }
+
+  /**
+   * Takes one attempt from the username's and the tenant's buckets.
+   *
+   * @throws LoginThrottledException when either bucket is empty
+   */
+  public void acquire(UUID tenantId, String username) {
+    String userKey = tenantId + ":" + username.toLowerCase(Locale.ROOT);
+    long now = nanoClock.getAsLong();
+
+    long userWait = usernameBuckets.get(userKey, k -> new TokenBucket(usernameCapacity, now)).tryAcquire(now);
+    if (userWait > 0) {
+      usernameThrottled.increment();
+      throw new LoginThrottledException(Duration.ofNanos(userWait));
+    }
+    long tenantWait = tenantBuckets.get(tenantId, k -> new TokenBucket(tenantCapacity, now)).tryAcquire(now);
+    if (tenantWait > 0) {
+      tenantThrottled.increment();
+      throw new LoginThrottledException(Duration.ofNanos(tenantWait));
+    }
+  }
+
+  /**
+   * Holds up to capacity attempts, refilled continuously at capacity per REFILL_WINDOW.
+   */
+  private static final class TokenBucket {
+
+    private final int capacity;
+    private final double nanosPerToken;
+    private double tokens;
+    private long updatedAt;
+
+    private TokenBucket(int capacity, long now) {
+      this.capacity = capacity;
+      this.nanosPerToken = (double) REFILL_WINDOW.toNanos() / capacity;
+      this.tokens = capacity;
+      this.updatedAt = now;
+    }
+
+    /**
+     * Returns 0 when a token was taken, otherwise the nanos until one becomes available.
+     */
+    private synchronized long tryAcquire(long now) {
+      if (now > updatedAt) {
+        tokens = Math.min(capacity, tokens + (now - updatedAt) / nanosPerToken);
+        updatedAt = now;
+      }
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return Math.max(1, (long) Math.ceil((1 - tokens) * nanosPerToken));
+    }
+  }
+}
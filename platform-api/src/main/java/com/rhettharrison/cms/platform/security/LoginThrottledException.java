@@ -0,0 +1,20 @@
+package com.rhettharrison.cms.platform.security;
+
+import java.time.Duration;
+
+/**
+ * Too many login attempts for the tenant or username; the client should retry after the given delay.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public LoginThrottledException(Duration retryAfter) {
+    super("Too many login attempts, please retry later");
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
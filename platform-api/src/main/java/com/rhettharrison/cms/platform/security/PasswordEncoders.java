@@ -0,0 +1,188 @@
+package com.rhettharrison.cms.platform.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+/**
+ * Builds the application's PasswordEncoder: a DelegatingPasswordEncoder that writes "{id}"-prefixed
+ * hashes with the configured algorithm and cost, and still matches every supported algorithm plus
+ * the unprefixed BCrypt hashes stored before prefixes were introduced. upgradeEncoding() reports
+ * true for hashes in another algorithm, unprefixed hashes, and BCrypt/Argon2/PBKDF2 hashes weaker
+ * than the target, which is what drives re-hashing on login. Spring's PBKDF2 format does not record
+ * its iteration count, so PBKDF2 hashes are written as "{pbkdf2}&lt;iterations&gt;$&lt;hash&gt;"; older
+ * PBKDF2 hashes without the count match with the configured count only and are always upgraded.
+ */
+public final class PasswordEncoders {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordEncoders.class);
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String PBKDF2 = "pbkdf2";
+  public static final String ARGON2 = "argon2";
+
+  // Calibration never goes below these, however slow the hardware
+  static final int MIN_BCRYPT_STRENGTH = 10;
+  static final int MAX_BCRYPT_STRENGTH = 31;
+  static final int MIN_PBKDF2_ITERATIONS = 100_000;
+  static final int MIN_ARGON2_ITERATIONS = 1;
+
+  private static final int CALIBRATION_SAMPLES = 3;
+
+  public record Settings(
+      String algorithm,
+      int bcryptStrength,
+      int pbkdf2Iterations,
+      int argon2MemoryKib,
+      int argon2Iterations,
+      int argon2Parallelism
+  ) {}
+
+  private PasswordEncoders() {}
+
+  public static PasswordEncoder delegating(Settings settings) {
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT, encoderFor(BCRYPT, settings));
+    encoders.put(PBKDF2, encoderFor(PBKDF2, settings));
+    encoders.put(ARGON2, encoderFor(ARGON2, settings));
+    if (!encoders.containsKey(settings.algorithm())) {
+      throw unsupported(settings.algorithm());
+    }
+
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(settings.algorithm(), encoders);
+    // Hashes written before prefixes were introduced are plain BCrypt
+    encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    return encoder;
+  }
+
+  /**
+   * Tunes the cost of the selected algorithm so one hash takes about the target time on this
+   * machine, starting from the configured cost and never going below the minimums above. Only the
+   * selected algorithm's setting changes; Argon2 memory and parallelism stay as configured.
+   */
+  public static Settings calibrate(Settings settings, Duration target) {
+    long targetNanos = target.toNanos();
+    long measured = measure(encoderFor(settings.algorithm(), settings));
+    double ratio = (double) targetNanos / measured;
+
+    Settings calibrated = switch (settings.algorithm()) {
+      case BCRYPT -> {
+        // Each strength step doubles the work
+        int steps = (int) Math.floor(Math.log(ratio) / Math.log(2));
+        int strength = Math.clamp(settings.bcryptStrength() + steps, MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH);
+        yield new Settings(settings.algorithm(), strength, settings.pbkdf2Iterations(),
+            settings.argon2MemoryKib(), settings.argon2Iterations(), settings.argon2Parallelism());
+      }
+      case PBKDF2 -> {
+        int iterations = (int) Math.max(MIN_PBKDF2_ITERATIONS,
+            Math.min(Integer.MAX_VALUE, (long) (settings.pbkdf2Iterations() * ratio)));
+        yield new Settings(settings.algorithm(), settings.bcryptStrength(), iterations,
+            settings.argon2MemoryKib(), settings.argon2Iterations(), settings.argon2Parallelism());
+      }
+      case ARGON2 -> {
+        int iterations = (int) Math.max(MIN_ARGON2_ITERATIONS, Math.round(settings.argon2Iterations() * ratio));
+        yield new Settings(settings.algorithm(), settings.bcryptStrength(), settings.pbkdf2Iterations(),
+            settings.argon2MemoryKib(), iterations, settings.argon2Parallelism());
+      }
+      default -> throw unsupported(settings.algorithm());
+    };
+
+    log.info("Password hashing calibrated for {} target: {} took {} ms at configured cost; using {}",
+        target, settings.algorithm(), measured / 1_000_000, calibrated);
+    return calibrated;
+  }
+
+  private static PasswordEncoder encoderFor(String algorithm, Settings settings) {
+    return switch (algorithm) {
+      case BCRYPT -> new BCryptPasswordEncoder(settings.bcryptStrength());
+      case PBKDF2 -> new IterationTaggedPbkdf2(settings.pbkdf2Iterations());
+      case ARGON2 -> new Argon2PasswordEncoder(16, 32, settings.argon2Parallelism(),
+          settings.argon2MemoryKib(), settings.argon2Iterations());
+      default -> throw unsupported(algorithm);
+    };
+  }
+
+  // Median of a few encodes after one warm-up, in nanos
+  private static long measure(PasswordEncoder encoder) {
+    encoder.encode("calibration-warmup");
+    long[] samples = new long[CALIBRATION_SAMPLES];
+    for (int i = 0; i < samples.length; i++) {
+      long start = System.nanoTime();
+      encoder.encode("calibration-password");
+      samples[i] = Math.max(1, System.nanoTime() - start);
+    }
+    Arrays.sort(samples);
+    return samples[samples.length / 2];
+  }
+
+  private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+    return new Pbkdf2PasswordEncoder("", 16, iterations,
+        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+  }
+
+  /**
+   * PBKDF2 (HMAC-SHA256) that prefixes each hash with its iteration count, so a stored hash is
+   * verified with the count it was made with and upgradeEncoding() can compare it to the target.
+   */
+  static final class IterationTaggedPbkdf2 implements PasswordEncoder {
+    private static final char SEPARATOR = '$';
+
+    private final int iterations;
+    private final Pbkdf2PasswordEncoder current;
+    private final Map<Integer, Pbkdf2PasswordEncoder> byIterations = new ConcurrentHashMap<>();
+
+    IterationTaggedPbkdf2(int iterations) {
+      this.iterations = iterations;
+      this.current = pbkdf2(iterations);
+      byIterations.put(iterations, current);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return iterations + String.valueOf(SEPARATOR) + current.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      if (encodedPassword == null) {
+        return false;
+      }
+      int separator = encodedPassword.indexOf(SEPARATOR);
+      if (separator < 0) {
+        // Written before the count was recorded: only the configured count can verify it
+        return current.matches(rawPassword, encodedPassword);
+      }
+      int stored = storedIterations(encodedPassword, separator);
+      return stored > 0 && byIterations.computeIfAbsent(stored, PasswordEncoders::pbkdf2)
+          .matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      int separator = encodedPassword == null ? -1 : encodedPassword.indexOf(SEPARATOR);
+      return separator < 0 || storedIterations(encodedPassword, separator) < iterations;
+    }
+
+    private static int storedIterations(String encodedPassword, int separator) {
+      try {
+        return Integer.parseInt(encodedPassword, 0, separator, 10);
+      } catch (NumberFormatException e) {
+        return -1;
+      }
+    }
+  }
+
+  private static IllegalArgumentException unsupported(String algorithm) {
+    return new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm
+        + " (expected " + BCRYPT + ", " + PBKDF2 + " or " + ARGON2 + ")");
+  }
+}
@@ -0,0 +1,20 @@
+package com.rhettharrison.cms.platform.security;
+
+import java.time.Duration;
+
+/**
+ * The password hashing pool is saturated; the client should retry after the given delay.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public PasswordHashingBusyException(Duration retryAfter) {
+    super("Login temporarily unavailable, please retry");
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,99 @@
+package com.rhettharrison.cms.platform.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password checks on a small fixed pool sized to the CPU budget for hashing, so slow BCrypt
+ * work never occupies request threads. The queue is bounded: when it is full the check is refused
+ * with PasswordHashingBusyException instead of letting logins pile up behind each other.
+ * An unknown user is checked against a dummy hash on the same pool, so its timing matches a wrong
+ * password without costing an extra thread. When a correct password's stored hash is outdated
+ * (see PasswordEncoders), the replacement hash is computed in the same task.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+  static final String METRIC_PREFIX = "auth.hash";
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolTaskExecutor pool;
+  private final Duration retryAfter;
+  private final String dummyHash;
+  private final Counter rejections;
+
+  public PasswordHashingExecutor(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${app.auth.hash-pool.size:0}") int poolSize,
+      @Value("${app.auth.hash-pool.queue-capacity:32}") int queueCapacity,
+      @Value("${app.auth.hash-pool.retry-after:PT1S}") Duration retryAfter
+  ) {
+    this.passwordEncoder = passwordEncoder;
+    this.retryAfter = retryAfter;
+    this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    this.pool = new ThreadPoolTaskExecutor();
+    pool.setCorePoolSize(threads);
+    pool.setMaxPoolSize(threads);
+    pool.setQueueCapacity(queueCapacity);
+    pool.setThreadNamePrefix("password-hash-");
+    pool.initialize();
+
+    ExecutorServiceMetrics.monitor(meterRegistry, pool.getThreadPoolExecutor(), METRIC_PREFIX);
+    this.rejections = Counter.builder(METRIC_PREFIX + ".rejected")
+        .description("Password checks refused because the hashing queue was full").register(meterRegistry);
+  }
+
+  /**
+   * Result of a password check. upgradedHash is set only when the password matched and the stored
+   * hash should be replaced.
+   */
+  public record PasswordCheck(boolean matched, String upgradedHash) {
+
+    static final PasswordCheck MISMATCH = new PasswordCheck(false, null);
+  }
+
+  /**
+   * Checks the password against the stored hash, or against a dummy hash when there is no user
+   * (always a mismatch).
+   *
+   * @throws PasswordHashingBusyException when the hashing queue is full
+   */
+  public CompletableFuture<PasswordCheck> check(String rawPassword, String encodedPassword) {
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        if (encodedPassword == null) {
+          passwordEncoder.matches(rawPassword, dummyHash);
+          return PasswordCheck.MISMATCH;
+        }
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+          return PasswordCheck.MISMATCH;
+        }
+        String upgraded = passwordEncoder.upgradeEncoding(encodedPassword)
+            ? passwordEncoder.encode(rawPassword)
+            : null;
+        return new PasswordCheck(true, upgraded);
+      }, pool);
+    } catch (RejectedExecutionException e) {
+      rejections.increment();
+      throw new PasswordHashingBusyException(retryAfter);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    pool.shutdown();
+  }
+}
@@ -0,0 +1,12 @@
+package com.rhettharrison.cms.platform.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The parts of a verified JWT that authentication needs, built once per distinct token.
+ */
+public record VerifiedToken(UUID tenantId, String subject, List<GrantedAuthority> authorities, Instant expiresAt) {
+}
@@ -0,0 +1,131 @@
+package com.rhettharrison.cms.platform.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of successfully verified JWTs so a token sent repeatedly is only HMAC-checked and
+ * parsed once. Keyed by SHA-256 of the signing-key fingerprint and the token (raw tokens are never
+ * stored); entries expire at the token's exp, capped by max-ttl. Tokens without exp and failed
+ * verifications are never cached. A different signing key yields different keys, so rotation
+ * makes old entries unreachable; invalidateAll() drops them eagerly.
+ * Hit/miss/eviction counters are published to Micrometer as cache "jwt.verified".
+ */
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "jwt.verified";
+
+  private final JwtService jwtService;
+  private final byte[] keyFingerprint;
+  private final Cache<Digest, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      JwtService jwtService,
+      MeterRegistry meterRegistry,
+      @Value("${app.jwt.verified-cache.max-size:10000}") long maxSize,
+      @Value("${app.jwt.verified-cache.max-ttl:PT15M}") Duration maxTtl
+  ) {
+    this.jwtService = jwtService;
+    this.keyFingerprint = jwtService.keyFingerprint();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new TokenExpiry(maxTtl))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns the verified token, verifying and caching it on a miss.
+   *
+   * @throws com.auth0.jwt.exceptions.JWTVerificationException when the token is invalid or expired
+   * @throws IllegalArgumentException when the tenant_id claim is not a UUID
+   */
+  public VerifiedToken verify(String token) {
+    Digest key = digest(token);
+    VerifiedToken cached = cache.getIfPresent(key);
+    if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+      return cached;
+    }
+    VerifiedToken verified = toVerifiedToken(jwtService.verify(token));
+    if (verified.expiresAt() != null) {
+      cache.put(key, verified);
+    }
+    return verified;
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static VerifiedToken toVerifiedToken(DecodedJWT jwt) {
+    String tenantIdClaim = jwt.getClaim("tenant_id").asString();
+    UUID tenantId = tenantIdClaim != null ? UUID.fromString(tenantIdClaim) : null;
+    String[] roles = jwt.getClaim("roles").asArray(String.class);
+    List<GrantedAuthority> authorities = roles == null ? List.of() : Arrays.stream(roles)
+        .map(SimpleGrantedAuthority::new)
+        .map(GrantedAuthority.class::cast)
+        .toList();
+    Instant expiresAt = jwt.getExpiresAt() != null ? jwt.getExpiresAt().toInstant() : null;
+    return new VerifiedToken(tenantId, jwt.getSubject(), authorities, expiresAt);
+  }
+
+  private Digest digest(String token) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      md.update(keyFingerprint);
+      return new Digest(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  // Array-backed key with value equality
+  private record Digest(byte[] bytes) {
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Digest other && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(bytes);
+    }
+  }
+
+  private record TokenExpiry(Duration maxTtl) implements Expiry<Digest, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(Digest key, VerifiedToken value, long currentTime) {
+      long untilExp = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+      return Math.max(0, Math.min(untilExp, maxTtl.toNanos()));
+    }
+
+    @Override
+    public long expireAfterUpdate(Digest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Digest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
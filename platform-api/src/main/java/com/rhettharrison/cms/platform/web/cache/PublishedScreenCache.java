@@ -0,0 +1,117 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of published screens keyed by (tenantId, normalized path), holding the
+ * pre-serialized response body so hits skip both the query and JSON serialization.
+ * Each tenant gets its own weight-bounded cache so one large tenant can only evict its own entries.
+ * 404s are cached as empty results with a short TTL. Admin writes invalidate synchronously on the
+ * node that handled them; other nodes are invalidated through CacheInvalidationEvent.
+ */
+@Component
+public class PublishedScreenCache {
+
+  // Rough fixed cost of a cached entry (map node, key, record, ETag) in bytes
+  private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+  private final Cache<UUID, Cache<String, Optional<ScreenResponseBody>>> tenants;
+  private final long maxBytesPerTenant;
+  private final Duration ttl;
+  private final Duration negativeTtl;
+
+  public PublishedScreenCache(
+      @Value("${app.screen-cache.max-tenants:256}") long maxTenants,
+      @Value("${app.screen-cache.max-bytes-per-tenant:1048576}") long maxBytesPerTenant,
+      @Value("${app.screen-cache.ttl:PT1H}") Duration ttl,
+      @Value("${app.screen-cache.negative-ttl:PT30S}") Duration negativeTtl
+  ) {
+    this.maxBytesPerTenant = maxBytesPerTenant;
+    this.ttl = ttl;
+    this.negativeTtl = negativeTtl;
+    this.tenants = Caffeine.newBuilder()
+        .maximumSize(maxTenants)
+        .build();
+  }
+
+  public Optional<ScreenResponseBody> get(UUID tenantId, String path, Function<String, Optional<ScreenResponseBody>> loader) {
+    return tenantCache(tenantId).get(path, loader);
+  }
+
+  /**
+   * Returns the cached entry without loading, or null when nothing is cached for the path.
+   */
+  public Optional<ScreenResponseBody> getIfPresent(UUID tenantId, String path) {
+    Cache<String, Optional<ScreenResponseBody>> cache = tenants.getIfPresent(tenantId);
+    return cache != null ? cache.getIfPresent(path) : null;
+  }
+
+  public void invalidate(UUID tenantId, String path) {
+    Cache<String, Optional<ScreenResponseBody>> cache = tenants.getIfPresent(tenantId);
+    if (cache != null && path != null) {
+      cache.invalidate(path);
+    }
+  }
+
+  public void invalidateTenant(UUID tenantId) {
+    tenants.invalidate(tenantId);
+  }
+
+  public void invalidateAll() {
+    tenants.invalidateAll();
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case SCREEN -> event.keys().forEach(path -> invalidate(event.tenantId(), path));
+      case TENANT -> invalidateTenant(event.tenantId());
+      case ALL -> invalidateAll();
+      case DOMAIN -> { }
+    }
+  }
+
+  private Cache<String, Optional<ScreenResponseBody>> tenantCache(UUID tenantId) {
+    return tenants.get(tenantId, id -> Caffeine.newBuilder()
+        .maximumWeight(maxBytesPerTenant)
+        .weigher(PublishedScreenCache::weigh)
+        .expireAfter(new ScreenExpiry(ttl, negativeTtl))
+        .build());
+  }
+
+  private static int weigh(String path, Optional<ScreenResponseBody> value) {
+    long bytes = ENTRY_OVERHEAD_BYTES + path.length() * 2L;
+    if (value.isPresent()) {
+      bytes += value.get().contentLength();
+    }
+    return (int) Math.min(Integer.MAX_VALUE, bytes);
+  }
+
+  private record ScreenExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<ScreenResponseBody>> {
+
+    @Override
+    public long expireAfterCreate(String key, Optional<ScreenResponseBody> value, long currentTime) {
+      return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Optional<ScreenResponseBody> value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Optional<ScreenResponseBody> value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
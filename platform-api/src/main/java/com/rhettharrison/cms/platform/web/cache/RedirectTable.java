@@ -0,0 +1,126 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant immutable map of normalized path -> published redirect, compiled on first use with a
+ * single streaming query. Lookups are a hash probe with no locking. Writes replace the tenant's
+ * map with a patched copy (copy-on-write), re-reading only the affected paths; large change sets
+ * drop the map so it is recompiled on the next lookup.
+ */
+@Component
+public class RedirectTable {
+
+  private static final Logger logger = LoggerFactory.getLogger(RedirectTable.class);
+
+  // Beyond this many changed paths a full recompile is cheaper than per-path refreshes
+  private static final int MAX_INCREMENTAL_PATHS = 32;
+
+  private final ScreenBulkRepository screenBulkRepository;
+  private final Cache<UUID, Map<String, Redirect>> tables;
+
+  public RedirectTable(
+      ScreenBulkRepository screenBulkRepository,
+      @Value("${app.redirects.max-tenants:256}") long maxTenants
+  ) {
+    this.screenBulkRepository = screenBulkRepository;
+    this.tables = Caffeine.newBuilder()
+        .maximumSize(maxTenants)
+        .build();
+  }
+
+  public Optional<Redirect> lookup(UUID tenantId, String normalizedPath) {
+    return Optional.ofNullable(tables.get(tenantId, this::compile).get(normalizedPath));
+  }
+
+  /**
+   * Re-reads the given paths for a tenant whose table is already compiled. Call after the write
+   * has committed; the old and new path of a moved screen should both be passed.
+   */
+  public void refresh(UUID tenantId, Collection<String> paths) {
+    if (tables.getIfPresent(tenantId) == null) {
+      return;
+    }
+    if (paths.size() > MAX_INCREMENTAL_PATHS) {
+      tables.invalidate(tenantId);
+      return;
+    }
+    Map<String, Optional<Redirect>> changes = new HashMap<>();
+    for (String path : paths) {
+      if (path != null) {
+        changes.put(path, screenBulkRepository.findPublishedRedirect(tenantId, path).map(Redirect::of));
+      }
+    }
+    tables.asMap().computeIfPresent(tenantId, (id, current) -> {
+      Map<String, Redirect> next = new HashMap<>(current);
+      changes.forEach((path, redirect) -> {
+        if (redirect.isPresent()) {
+          next.put(path, redirect.get());
+        } else {
+          next.remove(path);
+        }
+      });
+      return Map.copyOf(next);
+    });
+  }
+
+  public void invalidateTenant(UUID tenantId) {
+    tables.invalidate(tenantId);
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      // Bus events arrive without a tenant bound; the lookups must route to the tenant's shard
+      case SCREEN -> TenantContext.runWith(event.tenantId(), () -> refresh(event.tenantId(), event.keys()));
+      case TENANT -> invalidateTenant(event.tenantId());
+      case ALL -> tables.invalidateAll();
+      case DOMAIN -> { }
+    }
+  }
+
+  private Map<String, Redirect> compile(UUID tenantId) {
+    Map<String, Redirect> table = new HashMap<>();
+    screenBulkRepository.forEachPublishedRedirect(tenantId, s -> {
+      Redirect redirect = Redirect.of(s);
+      if (redirect != null) {
+        table.put(s.getPath(), redirect);
+      }
+    });
+    logger.debug("Compiled {} redirects for tenant {}", table.size(), tenantId);
+    return Map.copyOf(table);
+  }
+
+  public record Redirect(String targetUrl, int status) {
+
+    private static final List<Integer> ALLOWED_STATUSES = List.of(301, 302, 307, 308);
+
+    /**
+     * Null for rows that could not be served as a redirect (missing target or unsupported status).
+     */
+    static Redirect of(Screen s) {
+      Integer status = s.getRedirectStatus();
+      if (s.getRedirectTargetUrl() == null || s.getRedirectTargetUrl().isBlank()
+          || status == null || !ALLOWED_STATUSES.contains(status)) {
+        return null;
+      }
+      return new Redirect(s.getRedirectTargetUrl(), status);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import com.rhettharrison.cms.platform.web.mapper.ScreenJsonWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Fully serialized UTF-8 JSON body of a public screen response with its precomputed strong ETag
+ * and Last-Modified time. The byte array is shared across requests and must never be mutated.
+ */
+public record ScreenResponseBody(byte[] bytes, String eTag, Instant lastModified) {
+
+  public static ScreenResponseBody of(byte[] bytes, UUID screenId, Instant updatedAt) {
+    return new ScreenResponseBody(bytes, eTagFor(screenId, updatedAt), updatedAt);
+  }
+
+  /**
+   * Strong ETag derived from the screen version rather than the body, so it can be computed from a
+   * version-only lookup. The serializer format version is included so a format change on deploy
+   * invalidates client copies. Timestamps are truncated to the database's microsecond precision.
+   */
+  public static String eTagFor(UUID screenId, Instant updatedAt) {
+    String version = ScreenJsonWriter.FORMAT_VERSION + ":" + screenId + ":"
+        + (updatedAt != null ? updatedAt.truncatedTo(ChronoUnit.MICROS) : "");
+    return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+
+  public int contentLength() {
+    return bytes.length;
+  }
+
+  public long lastModifiedMillis() {
+    return lastModified != null ? lastModified.toEpochMilli() : -1;
+  }
+}
@@ -0,0 +1,99 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.domain.model.screen.PublishedScreenStats;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of generated sitemap documents, bounded by total bytes, and of each tenant's
+ * shard start keys. Each entry remembers the PublishedScreenStats it was built from; a lookup with
+ * different stats is a miss, so edits are picked up on the next request without explicit
+ * invalidation.
+ */
+@Component
+public class SitemapCache {
+
+  private static final int MAX_SHARD_START_TENANTS = 10_000;
+
+  private final Cache<Key, Entry> cache;
+  private final Cache<UUID, ShardStarts> shardStarts;
+  private final int maxEntryBytes;
+
+  public SitemapCache(@Value("${app.sitemap.cache-max-bytes:67108864}") long maxBytes) {
+    // A single document may use at most a quarter of the budget so one tenant cannot flush the rest
+    this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE, maxBytes / 4);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((Key k, Entry e) -> e.bytes().length)
+        .build();
+    this.shardStarts = Caffeine.newBuilder()
+        .maximumSize(MAX_SHARD_START_TENANTS)
+        .build();
+  }
+
+  /**
+   * Returns the cached document for the key if it was generated from the same stats, else null.
+   */
+  public byte[] get(Key key, PublishedScreenStats stats) {
+    Entry entry = cache.getIfPresent(key);
+    return entry != null && entry.stats().equals(stats) ? entry.bytes() : null;
+  }
+
+  public void put(Key key, PublishedScreenStats stats, byte[] bytes) {
+    if (bytes.length <= maxEntryBytes) {
+      cache.put(key, new Entry(stats, bytes));
+    }
+  }
+
+  /**
+   * The tenant's shard start keys for the given stats, loaded once per stats version. Every shard
+   * of a large tenant seeks from its start key, so only the first request after a change pays for
+   * the pass over the index.
+   */
+  public List<String> shardStarts(UUID tenantId, PublishedScreenStats stats, Supplier<List<String>> loader) {
+    ShardStarts entry = shardStarts.getIfPresent(tenantId);
+    if (entry != null && entry.stats().equals(stats)) {
+      return entry.starts();
+    }
+    List<String> starts = List.copyOf(loader.get());
+    shardStarts.put(tenantId, new ShardStarts(stats, starts));
+    return starts;
+  }
+
+  public int maxEntryBytes() {
+    return maxEntryBytes;
+  }
+
+  @EventListener
+  public void onCacheInvalidation(CacheInvalidationEvent event) {
+    switch (event.scope()) {
+      case TENANT -> {
+        cache.asMap().keySet().removeIf(k -> k.tenantId().equals(event.tenantId()));
+        shardStarts.invalidate(event.tenantId());
+      }
+      case ALL -> {
+        cache.invalidateAll();
+        shardStarts.invalidateAll();
+      }
+      // Screen edits change the stats, which already turns the stale entry into a miss
+      case SCREEN, DOMAIN -> { }
+    }
+  }
+
+  /**
+   * Shard 0 is the root /sitemap.xml (urlset or sitemapindex); shards 1..n are /sitemaps/{n}.xml.
+   * The base URL is part of the key because a tenant can be served on several domains.
+   */
+  public record Key(UUID tenantId, String baseUrl, int shard) {}
+
+  private record Entry(PublishedScreenStats stats, byte[] bytes) {}
+
+  private record ShardStarts(PublishedScreenStats stats, List<String> starts) {}
+}
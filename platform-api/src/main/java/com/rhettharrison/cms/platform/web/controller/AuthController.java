@@ -1,9 +1,12 @@
 package com.rhettharrison.cms.platform.web.controller;
 
+import com.rhettharrison.cms.platform.common.tenant.TenantAwareExecutor;
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import com.rhettharrison.cms.platform.domain.model.user.User;
 import com.rhettharrison.cms.platform.domain.model.user.UserRepository;
 import com.rhettharrison.cms.platform.security.JwtService;
+import com.rhettharrison.cms.platform.security.LoginAttemptThrottle;
+import com.rhettharrison.cms.platform.security.PasswordHashingExecutor;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.time.Instant;
@@ -11,6 +14,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -19,8 +24,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.rhettharrison.cms.platform.web.error.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -31,14 +37,26 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Auth", description = "Authentication endpoints")
 public class AuthController {
 
+  private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
+  private final LoginAttemptThrottle loginAttemptThrottle;
   private final JwtService jwtService;
+  private final TenantAwareExecutor tenantTaskExecutor;
 
-  public AuthController(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+  public AuthController(
+      UserRepository userRepository,
+      PasswordHashingExecutor passwordHashingExecutor,
+      LoginAttemptThrottle loginAttemptThrottle,
+      JwtService jwtService,
+      TenantAwareExecutor tenantTaskExecutor
+  ) {
     this.userRepository = userRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.loginAttemptThrottle = loginAttemptThrottle;
     this.jwtService = jwtService;
+    this.tenantTaskExecutor = tenantTaskExecutor;
   }
 
   public record LoginRequest(@NotBlank String username, @NotBlank String password) {}
@@ -48,7 +66,9 @@ public class AuthController {
       summary = "Authenticate and receive a JWT",
       description = "Authenticates the provided credentials within the resolved tenant and returns a Bearer JWT. "
           + "Send a Host header for tenant resolution (e.g., Host: default.yourblog.com). "
-          + "Use the returned token as: Authorization: Bearer <token>."
+          + "Use the returned token as: Authorization: Bearer <token>. "
+          + "Attempts are rate limited per username and per tenant (429), and the endpoint sheds load "
+          + "with 503 when password checking is saturated; both carry a Retry-After header."
   )
   @ApiResponses(value = {
       @ApiResponse(
@@ -72,28 +92,56 @@ public class AuthController {
                   value = "{\n  \"code\": \"UNAUTHENTICATED\",\n  \"message\": \"Invalid credentials\",\n  \"traceId\": \"c1a2b3...\",\n  \"tenantId\": \"<resolved-tenant-uuid>\"\n}"
               )
           )
-      )
+      ),
+      @ApiResponse(responseCode = "429", description = "Too many login attempts",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "503", description = "Login temporarily unavailable",
+          content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<?> login(@Valid @RequestBody LoginRequest req) {
+  public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest req) {
     UUID tenantId = TenantContext.getTenantId();
-    // Find user within current tenant (filter enforces tenant automatically)
+    loginAttemptThrottle.acquire(tenantId, req.username());
+
+    // Find user within current tenant (filter enforces tenant automatically). The lookup stays on
+    // the request thread; only the hash check moves to the hashing pool.
     User user = userRepository.findByUsernameIgnoreCase(req.username()).orElse(null);
-    if (user == null || !passwordEncoder.matches(req.password(), user.getPasswordHash())) {
-      return ResponseEntity.status(401).body(Map.of(
-          "code", "UNAUTHENTICATED",
-          "message", "Invalid credentials"
-      ));
-    }
+    String passwordHash = user != null ? user.getPasswordHash() : null;
+
+    return passwordHashingExecutor.check(req.password(), passwordHash).thenApply(check -> {
+      if (!check.matched()) {
+        return ResponseEntity.status(401).body(Map.of(
+            "code", "UNAUTHENTICATED",
+            "message", "Invalid credentials"
+        ));
+      }
 
-    List<String> roles = Arrays.stream(user.getRoles().split(","))
-        .map(String::trim)
-        .filter(s -> !s.isEmpty())
-        .toList();
+      List<String> roles = Arrays.stream(user.getRoles().split(","))
+          .map(String::trim)
+          .filter(s -> !s.isEmpty())
+          .toList();
 
-    String token = jwtService.issueToken(tenantId, user.getUsername(), roles);
+      if (check.upgradedHash() != null) {
+        upgradePasswordHash(tenantId, user.getId(), passwordHash, check.upgradedHash());
+      }
 
-    // Simple response with token and metadata
-    return ResponseEntity.ok(new LoginSuccess(token, "Bearer", Instant.now().toString()));
+      String token = jwtService.issueToken(tenantId, user.getUsername(), roles);
+
+      // Simple response with token and metadata
+      return ResponseEntity.ok(new LoginSuccess(token, "Bearer", Instant.now().toString()));
+    });
+  }
+
+  /**
+   * Stores the re-hashed password in the background so the login response doesn't wait on the
+   * write. If the executor is full the upgrade is skipped and retried on the next login.
+   */
+  private void upgradePasswordHash(UUID tenantId, UUID userId, String currentHash, String upgradedHash) {
+    try {
+      TenantContext.runWith(tenantId, () -> tenantTaskExecutor.execute(() ->
+          userRepository.updatePasswordHash(userId, currentHash, upgradedHash, Instant.now())));
+    } catch (RejectedExecutionException e) {
+      log.debug("Skipped password hash upgrade for user {}: background executor is full", userId);
+    }
   }
 
   public record LoginSuccess(
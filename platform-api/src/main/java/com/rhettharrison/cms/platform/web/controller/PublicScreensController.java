@@ -1,10 +1,17 @@
 package com.rhettharrison.cms.platform.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.rhettharrison.cms.platform.common.datasource.ReplicaReads;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import com.rhettharrison.cms.platform.common.util.PathNormalizer;
-import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenVersionView;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.ScreenResponseBody;
 import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import com.rhettharrison.cms.platform.web.mapper.ScreenJsonWriter;
 import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,29 +21,55 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.rhettharrison.cms.platform.web.error.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/screens")
-@RequiredArgsConstructor
 @Tag(name = "Public", description = "Public read APIs that require no authentication")
 public class PublicScreensController {
 
   private final ScreenRepository screenRepository;
   private final ScreenMapper screenMapper;
+  private final PublishedScreenCache publishedScreenCache;
+  private final ScreenBulkRepository screenBulkRepository;
+  private final boolean sqlJson;
+
+  public PublicScreensController(
+      ScreenRepository screenRepository,
+      ScreenMapper screenMapper,
+      PublishedScreenCache publishedScreenCache,
+      ScreenBulkRepository screenBulkRepository,
+      @Value("${app.public-read.sql-json:false}") boolean sqlJson
+  ) {
+    this.screenRepository = screenRepository;
+    this.screenMapper = screenMapper;
+    this.publishedScreenCache = publishedScreenCache;
+    this.screenBulkRepository = screenBulkRepository;
+    this.sqlJson = sqlJson;
+  }
 
   @GetMapping
   @Operation(
       summary = "Get published screen by path for current tenant",
       description = "Returns the published screen for the resolved tenant and given path. "
           + "Send a Host header for tenant resolution (e.g., Host: default.yourblog.com). "
+          + "Supports conditional requests via If-None-Match / If-Modified-Since. "
           + "Example curl: curl -s 'http://localhost:8080/api/v1/screens?path=/' -H 'Host: default.yourblog.com'"
   )
   @ApiResponses(value = {
@@ -51,6 +84,11 @@ public class PublicScreensController {
               )
           )
       ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Screen unchanged since the supplied ETag or Last-Modified",
+          content = @Content
+      ),
       @ApiResponse(
           responseCode = "400",
           description = "Invalid path",
@@ -70,19 +108,124 @@ public class PublicScreensController {
   })
   public ResponseEntity<?> getByPath(
       @Parameter(description = "Path of the screen (e.g., / or /about)")
-      @RequestParam(name = "path") String pathParam
+      @RequestParam(name = "path") String pathParam,
+      WebRequest webRequest
   ) {
     String path = PathNormalizer.normalize(pathParam);
     if (path == null) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid path");
     }
 
-    Optional<Screen> screenOpt = screenRepository.findByPathAndStatus(path, ScreenStatus.PUBLISHED);
-    if (screenOpt.isEmpty()) {
+    UUID tenantId = TenantContext.getTenantId();
+    Optional<ScreenResponseBody> body = publishedScreenCache.getIfPresent(tenantId, path);
+    if (body == null && isConditional(webRequest)) {
+      // Cold cache revalidation: answer from the version columns without loading content. Only a
+      // match touches the response; otherwise the validators come from the body served below.
+      Optional<ScreenVersionView> version = ReplicaReads.call(() ->
+          screenRepository.findVersionByPathAndStatus(path, ScreenStatus.PUBLISHED));
+      if (version.isPresent()) {
+        String eTag = ScreenResponseBody.eTagFor(version.get().getId(), version.get().getUpdatedAt());
+        long lastModified = version.get().getUpdatedAt() != null ? version.get().getUpdatedAt().toEpochMilli() : -1;
+        if (wouldBeNotModified(webRequest, eTag, lastModified)) {
+          isNotModified(webRequest, eTag, lastModified);
+          return null;
+        }
+      }
+    }
+    if (body == null) {
+      // Published content may come from a read replica; a tenant that just wrote is pinned to the primary
+      body = publishedScreenCache.get(tenantId, path, p -> ReplicaReads.call(() -> loadPublished(tenantId, p)));
+    }
+    if (body.isEmpty()) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
-    ScreenDto dto = screenMapper.toDto(screenOpt.get());
-    return ResponseEntity.ok(dto);
+    ScreenResponseBody cached = body.get();
+    // Sets ETag and Last-Modified on the response; a match commits a bodiless 304
+    if (isNotModified(webRequest, cached.eTag(), cached.lastModifiedMillis())) {
+      return null;
+    }
+
+    // Cached bytes are written as-is by the byte[] message converter; no per-request serialization
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .contentLength(cached.contentLength())
+        .body(cached.bytes());
+  }
+
+  /**
+   * Cache-miss load of a published screen's response body. With app.public-read.sql-json the JSON is
+   * built by Postgres and its bytes are cached untouched; otherwise the entity is loaded and mapped.
+   */
+  private Optional<ScreenResponseBody> loadPublished(UUID tenantId, String path) {
+    if (sqlJson) {
+      return screenBulkRepository.findPublishedJson(tenantId, path)
+          .map(json -> ScreenResponseBody.of(json.body(), json.id(), json.updatedAt()));
+    }
+    return screenRepository.findByPathAndStatus(path, ScreenStatus.PUBLISHED)
+        .map(screen -> ScreenResponseBody.of(
+            ScreenJsonWriter.toJsonBytes(screenMapper.toDto(screen)), screen.getId(), screen.getUpdatedAt()));
+  }
+
+  @GetMapping("/tree")
+  @Operation(
+      summary = "List published screens under a path",
+      description = "Streams a JSON array of published screens at or below the given path (e.g., /blog returns "
+          + "/blog and /blog/..., not /blogger), in path order and without content. Intended for navigation menus. "
+          + "Example curl: curl -s 'http://localhost:8080/api/v1/screens/tree?prefix=/blog' -H 'Host: default.yourblog.com'"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "JSON array of screen entries"),
+      @ApiResponse(responseCode = "400", description = "Invalid prefix", content = @Content)
+  })
+  public void getTree(
+      @Parameter(description = "Root path of the subtree (default /)")
+      @RequestParam(name = "prefix", defaultValue = "/") String prefixParam,
+      HttpServletResponse response
+  ) throws IOException {
+    String prefix = PathNormalizer.normalize(prefixParam);
+    if (prefix == null) {
+      response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid prefix");
+      return;
+    }
+
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    // Rows are written as they are fetched, so large subtrees never sit in memory
+    try (JsonGenerator g = ScreenJsonWriter.createGenerator(response.getOutputStream())) {
+      g.writeStartArray();
+      try {
+        ReplicaReads.run(() -> screenBulkRepository.forEachPublishedInSubtree(TenantContext.getTenantId(), prefix, screen -> {
+          try {
+            ScreenJsonWriter.writeTreeItem(g, screen);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      g.writeEndArray();
+    }
+  }
+
+  private static boolean isConditional(WebRequest webRequest) {
+    return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+        || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+  }
+
+  /**
+   * Evaluates the conditional headers without writing validators or a status. Spring keeps the
+   * validators from the first checkNotModified on a request, so a miss here must not set them.
+   */
+  private static boolean wouldBeNotModified(WebRequest webRequest, String eTag, long lastModified) {
+    return webRequest instanceof ServletWebRequest servletRequest
+        && isNotModified(new ServletWebRequest(servletRequest.getRequest()), eTag, lastModified);
+  }
+
+  private static boolean isNotModified(WebRequest webRequest, String eTag, long lastModified) {
+    return lastModified > 0
+        ? webRequest.checkNotModified(eTag, lastModified)
+        : webRequest.checkNotModified(eTag);
   }
 }
@@ -0,0 +1,192 @@
+package com.rhettharrison.cms.platform.web.controller;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.PublishedScreenStats;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.web.cache.SitemapCache;
+import com.rhettharrison.cms.platform.web.mapper.SitemapXmlWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+@RestController
+@Tag(name = "Public", description = "Public read APIs that require no authentication")
+public class SitemapController {
+
+  private final ScreenBulkRepository screenBulkRepository;
+  private final SitemapCache sitemapCache;
+  private final int maxUrlsPerShard;
+
+  public SitemapController(
+      ScreenBulkRepository screenBulkRepository,
+      SitemapCache sitemapCache,
+      @Value("${app.sitemap.max-urls-per-shard:50000}") int maxUrlsPerShard
+  ) {
+    this.screenBulkRepository = screenBulkRepository;
+    this.sitemapCache = sitemapCache;
+    this.maxUrlsPerShard = maxUrlsPerShard;
+  }
+
+  @GetMapping("/sitemap.xml")
+  @Operation(
+      summary = "Sitemap for the current tenant",
+      description = "Lists published, non-redirect screens of the resolved tenant. Up to the shard size (50,000 URLs) "
+          + "this is a urlset; above it, a sitemap index pointing at /sitemaps/{n}.xml. "
+          + "Example curl: curl -s 'http://localhost:8080/sitemap.xml' -H 'Host: default.yourblog.com'"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Sitemap XML")
+  })
+  public void sitemap(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    write(0, request, response);
+  }
+
+  @GetMapping("/sitemaps/{shard:\\d+}.xml")
+  @Operation(
+      summary = "Sitemap shard for the current tenant",
+      description = "One urlset shard referenced from the sitemap index, numbered from 1."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Sitemap XML"),
+      @ApiResponse(responseCode = "404", description = "No such shard")
+  })
+  public void sitemapShard(@PathVariable("shard") int shard, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    if (shard < 1) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    write(shard, request, response);
+  }
+
+  private void write(int shard, HttpServletRequest request, HttpServletResponse response) throws IOException {
+    UUID tenantId = TenantContext.getTenantId();
+    PublishedScreenStats stats = screenBulkRepository.publishedIndexableStats(tenantId);
+    long shardCount = Math.max(1, (stats.count() + maxUrlsPerShard - 1) / maxUrlsPerShard);
+    if (shard > shardCount) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+
+    String baseUrl = ServletUriComponentsBuilder.fromContextPath(request).toUriString();
+    SitemapCache.Key key = new SitemapCache.Key(tenantId, baseUrl, shard);
+    response.setContentType(MediaType.APPLICATION_XML_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+    byte[] cached = sitemapCache.get(key, stats);
+    if (cached != null) {
+      response.setContentLength(cached.length);
+      response.getOutputStream().write(cached);
+      return;
+    }
+
+    // Shards after the first seek from the previous shard's last path instead of skipping rows
+    String afterKey = "";
+    if (shard > 1) {
+      List<String> starts = sitemapCache.shardStarts(tenantId, stats,
+          () -> screenBulkRepository.publishedIndexableShardStarts(tenantId, maxUrlsPerShard));
+      if (shard > starts.size()) {
+        response.sendError(HttpStatus.NOT_FOUND.value());
+        return;
+      }
+      afterKey = starts.get(shard - 1);
+    }
+
+    // Stream to the client while keeping a copy for the cache; nothing is cached if the write fails
+    CapturingOutputStream capture = new CapturingOutputStream(response.getOutputStream(), sitemapCache.maxEntryBytes());
+    OutputStream out = new BufferedOutputStream(capture, 8192);
+    if (shard == 0 && shardCount > 1) {
+      SitemapXmlWriter index = SitemapXmlWriter.sitemapIndex(out);
+      for (int n = 1; n <= shardCount; n++) {
+        index.entry(baseUrl + "/sitemaps/" + n + ".xml", stats.lastUpdatedAt());
+      }
+      index.finish();
+    } else {
+      SitemapXmlWriter urlset = SitemapXmlWriter.urlset(out);
+      try {
+        screenBulkRepository.forEachPublishedIndexable(tenantId, afterKey, maxUrlsPerShard, screen -> {
+          try {
+            urlset.entry(baseUrl + UriUtils.encodePath(screen.getPath(), StandardCharsets.UTF_8), screen.getUpdatedAt());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      urlset.finish();
+    }
+    out.flush();
+
+    byte[] bytes = capture.captured();
+    if (bytes != null) {
+      sitemapCache.put(key, stats, bytes);
+    }
+  }
+
+  /**
+   * Passes bytes through and keeps a copy until the limit is exceeded, after which the copy is dropped.
+   */
+  private static final class CapturingOutputStream extends OutputStream {
+    private final OutputStream target;
+    private final int limit;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream(8192);
+
+    CapturingOutputStream(OutputStream target, int limit) {
+      this.target = target;
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      target.write(b);
+      if (copy != null) {
+        copy.write(b);
+        checkLimit();
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      target.write(b, off, len);
+      if (copy != null) {
+        copy.write(b, off, len);
+        checkLimit();
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      target.flush();
+    }
+
+    byte[] captured() {
+      return copy != null ? copy.toByteArray() : null;
+    }
+
+    private void checkLimit() {
+      if (copy.size() > limit) {
+        copy = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.rhettharrison.cms.platform.web.controller.admin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.common.util.PathNormalizer;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
+import com.rhettharrison.cms.platform.web.dto.admin.CreateScreenRequest;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenImportResult;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenImportResult.Row;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenImportResult.Status;
+import com.rhettharrison.cms.platform.web.mapper.ScreenJsonWriter;
+import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/screens")
+@Tag(name = "Admin", description = "Administrative CRUD APIs (JWT required)")
+@SecurityRequirement(name = "bearer-jwt")
+@PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
+public class AdminScreenBulkController {
+
+  private static final Logger logger = LoggerFactory.getLogger(AdminScreenBulkController.class);
+
+  static final String NDJSON = "application/x-ndjson";
+
+  // screens.path is VARCHAR(255); longer paths would fail the whole chunk
+  private static final int MAX_PATH_LENGTH = 255;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  // Exports carry id/publishedAt, so they can be re-imported as-is
+  private static final ObjectReader requestReader = mapper.readerFor(CreateScreenRequest.class)
+      .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  private final ScreenBulkRepository screenBulkRepository;
+  private final ScreenMapper screenMapper;
+  private final PublishedScreenCache publishedScreenCache;
+  private final RedirectTable redirectTable;
+  private final Validator validator;
+  private final int chunkSize;
+  private final int maxRows;
+
+  public AdminScreenBulkController(
+      ScreenBulkRepository screenBulkRepository,
+      ScreenMapper screenMapper,
+      PublishedScreenCache publishedScreenCache,
+      RedirectTable redirectTable,
+      Validator validator,
+      @Value("${app.screen-import.chunk-size:500}") int chunkSize,
+      @Value("${app.screen-import.max-rows:10000}") int maxRows
+  ) {
+    this.screenBulkRepository = screenBulkRepository;
+    this.screenMapper = screenMapper;
+    this.publishedScreenCache = publishedScreenCache;
+    this.redirectTable = redirectTable;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxRows = maxRows;
+  }
+
+  @PostMapping(path = "/import", consumes = {NDJSON, MediaType.APPLICATION_JSON_VALUE})
+  @Operation(
+      summary = "Bulk import screens",
+      description = "Creates screens from NDJSON (one CreateScreenRequest per line) or a JSON array. "
+          + "Rows are validated like single creates and inserted in chunked transactions; existing paths are "
+          + "reported as CONFLICT and left unchanged. Returns one result per input row. "
+          + "Example curl: curl -s -X POST 'http://localhost:8080/api/v1/admin/screens/import' "
+          + "-H 'Authorization: Bearer <token>' -H 'Host: default.yourblog.com' -H 'Content-Type: application/x-ndjson' "
+          + "--data-binary @screens.ndjson"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Import processed; see per-row results",
+          content = @Content(schema = @Schema(implementation = ScreenImportResult.class))
+      ),
+      @ApiResponse(responseCode = "401", description = "Unauthenticated", content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class)))
+  })
+  public ResponseEntity<ScreenImportResult> importScreens(HttpServletRequest request) throws IOException {
+    UUID tenantId = TenantContext.getTenantId();
+    List<Row> rows = new ArrayList<>();
+    List<Screen> chunk = new ArrayList<>(chunkSize);
+    List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+    // readValues accepts both a root-level sequence (NDJSON) and the elements of a JSON array
+    try (MappingIterator<CreateScreenRequest> it = requestReader.readValues(request.getInputStream())) {
+      int index = 0;
+      while (nextValueAvailable(it, index, rows)) {
+        if (index >= maxRows) {
+          rows.add(new Row(index, null, Status.INVALID, null,
+              "Import is limited to " + maxRows + " rows; remaining input was ignored"));
+          break;
+        }
+        CreateScreenRequest req;
+        try {
+          req = it.nextValue();
+        } catch (DatabindException e) {
+          // Bad field value in an otherwise well-formed row; the iterator resyncs to the next row
+          rows.add(new Row(index++, null, Status.INVALID, null, "Invalid row: " + e.getOriginalMessage()));
+          continue;
+        } catch (JsonProcessingException e) {
+          rows.add(new Row(index, null, Status.INVALID, null, "Malformed JSON: " + e.getOriginalMessage()));
+          break;
+        }
+
+        String path = req != null ? PathNormalizer.normalize(req.getPath()) : null;
+        String error = validate(req, path);
+        if (error != null) {
+          rows.add(new Row(index++, req != null ? req.getPath() : null, Status.INVALID, null, error));
+          continue;
+        }
+
+        Screen s = new Screen();
+        s.setPath(path);
+        s.setType(req.getType());
+        s.setStatus(req.getStatus());
+        s.setContent(ScreenRequestValidator.defaultContent(req.getType(), req.getContent()));
+        s.setRedirectTargetUrl(req.getRedirectTargetUrl());
+        s.setRedirectStatus(req.getRedirectStatus());
+        chunk.add(s);
+        chunkIndexes.add(index++);
+
+        if (chunk.size() >= chunkSize) {
+          flush(tenantId, chunk, chunkIndexes, rows);
+        }
+      }
+    }
+    flush(tenantId, chunk, chunkIndexes, rows);
+
+    rows.sort(Comparator.comparingInt(Row::index));
+    int created = count(rows, Status.CREATED);
+    if (created > 0) {
+      // Cached 404s for any of the new paths must go
+      publishedScreenCache.invalidateTenant(tenantId);
+      redirectTable.invalidateTenant(tenantId);
+    }
+    return ResponseEntity.ok(new ScreenImportResult(
+        created, count(rows, Status.CONFLICT), count(rows, Status.INVALID), count(rows, Status.FAILED), rows));
+  }
+
+  @GetMapping(path = "/export", produces = NDJSON)
+  @Operation(
+      summary = "Export all screens as NDJSON",
+      description = "Streams every screen of the resolved tenant, one JSON object per line, in path order. "
+          + "The output can be fed back to the import endpoint. "
+          + "Example curl: curl -s 'http://localhost:8080/api/v1/admin/screens/export' "
+          + "-H 'Authorization: Bearer <token>' -H 'Host: default.yourblog.com' > screens.ndjson"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "NDJSON stream of screens"),
+      @ApiResponse(responseCode = "401", description = "Unauthenticated", content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class)))
+  })
+  public void exportScreens(HttpServletResponse response) throws IOException {
+    UUID tenantId = TenantContext.getTenantId();
+    response.setContentType(NDJSON);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"screens.ndjson\"");
+
+    OutputStream out = response.getOutputStream();
+    try {
+      screenBulkRepository.forEachScreen(tenantId, screen -> {
+        try {
+          out.write(ScreenJsonWriter.toJsonBytes(screenMapper.toDto(screen)));
+          out.write('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      // Client went away mid-stream; the read transaction has already been rolled back
+      throw e.getCause();
+    }
+    out.flush();
+  }
+
+  private String validate(CreateScreenRequest req, String normalizedPath) {
+    if (req == null) {
+      return "Row must be a JSON object";
+    }
+    String constraintError = validator.validate(req).stream()
+        .findFirst()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .orElse(null);
+    if (constraintError != null) {
+      return constraintError;
+    }
+    if (normalizedPath == null) {
+      return "Invalid path";
+    }
+    if (normalizedPath.length() > MAX_PATH_LENGTH) {
+      return "path must be at most " + MAX_PATH_LENGTH + " characters";
+    }
+    String typeError = ScreenRequestValidator.validateTypeSpecific(
+        req.getType(), req.getContent(), req.getRedirectTargetUrl(), req.getRedirectStatus());
+    if (typeError != null) {
+      return typeError;
+    }
+    if (req.getContent() != null) {
+      // content is stored as jsonb; one bad document would otherwise fail the whole chunk
+      try {
+        mapper.readTree(req.getContent());
+      } catch (JsonProcessingException e) {
+        return "content must be valid JSON";
+      }
+    }
+    return null;
+  }
+
+  private void flush(UUID tenantId, List<Screen> chunk, List<Integer> chunkIndexes, List<Row> rows) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    try {
+      int[] counts = screenBulkRepository.insertBatch(tenantId, chunk);
+      for (int i = 0; i < chunk.size(); i++) {
+        Screen s = chunk.get(i);
+        // SUCCESS_NO_INFO is returned when the driver rewrites batches
+        boolean inserted = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        rows.add(inserted
+            ? new Row(chunkIndexes.get(i), s.getPath(), Status.CREATED, s.getId(), null)
+            : new Row(chunkIndexes.get(i), s.getPath(), Status.CONFLICT, null, "A screen with this path already exists"));
+      }
+    } catch (DataAccessException e) {
+      logger.warn("Bulk screen import chunk of {} rows failed for tenant {}", chunk.size(), tenantId, e);
+      for (int i = 0; i < chunk.size(); i++) {
+        rows.add(new Row(chunkIndexes.get(i), chunk.get(i).getPath(), Status.FAILED, null,
+            "Chunk was rolled back due to a database error"));
+      }
+    }
+    chunk.clear();
+    chunkIndexes.clear();
+  }
+
+  private static boolean nextValueAvailable(MappingIterator<CreateScreenRequest> it, int index, List<Row> rows) {
+    try {
+      return it.hasNextValue();
+    } catch (IOException e) {
+      rows.add(new Row(index, null, Status.INVALID, null, "Malformed JSON: " + e.getMessage()));
+      return false;
+    }
+  }
+
+  private static int count(List<Row> rows, Status status) {
+    return (int) rows.stream().filter(r -> r.status() == status).count();
+  }
+}
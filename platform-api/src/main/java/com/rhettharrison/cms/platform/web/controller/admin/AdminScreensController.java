@@ -1,12 +1,17 @@
 package com.rhettharrison.cms.platform.web.controller.admin;
 
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import com.rhettharrison.cms.platform.common.util.PathNormalizer;
 import com.rhettharrison.cms.platform.domain.model.screen.Screen;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenSummaryView;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
 import com.rhettharrison.cms.platform.web.dto.ScreenDto;
 import com.rhettharrison.cms.platform.web.dto.admin.CreateScreenRequest;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenPage;
 import com.rhettharrison.cms.platform.web.dto.admin.UpdateScreenRequest;
 import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,15 +23,22 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import static com.rhettharrison.cms.platform.web.controller.admin.ScreenRequestValidator.defaultContent;
+import static com.rhettharrison.cms.platform.web.controller.admin.ScreenRequestValidator.validateTypeSpecific;
+
 @RestController
 @RequestMapping("/api/v1/admin/screens")
 @RequiredArgsConstructor
@@ -35,10 +47,69 @@ import org.springframework.web.bind.annotation.*;
 @PreAuthorize("hasAnyRole('ADMIN','EDITOR')")
 public class AdminScreensController {
 
-  private static final Set<Integer> ALLOWED_REDIRECT_STATUSES = Set.of(301, 302, 307, 308);
+  private static final int MAX_PAGE_SIZE = 200;
 
   private final ScreenRepository screenRepository;
   private final ScreenMapper screenMapper;
+  private final PublishedScreenCache publishedScreenCache;
+  private final RedirectTable redirectTable;
+
+  @GetMapping
+  @Operation(
+      summary = "List screens",
+      description = "Lists screens of the resolved tenant ordered by path, without content. Uses keyset pagination: "
+          + "pass the returned nextCursor to fetch the following page. Optional status and type filters. "
+          + "Requires Bearer JWT with ADMIN or EDITOR role. "
+          + "Example curl: curl -s 'http://localhost:8080/api/v1/admin/screens?limit=50&status=PUBLISHED' "
+          + "-H 'Authorization: Bearer <token>' -H 'Host: default.yourblog.com'"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Page of screens",
+          content = @Content(schema = @Schema(implementation = ScreenPage.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Invalid cursor or limit",
+          content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "401",
+          description = "Unauthenticated",
+          content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "403",
+          description = "Forbidden",
+          content = @Content(schema = @Schema(implementation = com.rhettharrison.cms.platform.web.error.ErrorResponse.class))
+      )
+  })
+  public ResponseEntity<?> list(
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "limit", defaultValue = "50") int limit,
+      @RequestParam(name = "status", required = false) ScreenStatus status,
+      @RequestParam(name = "type", required = false) ScreenType type
+  ) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("limit must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    String afterPath = null;
+    if (cursor != null) {
+      afterPath = decodeCursor(cursor);
+      if (afterPath == null) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid cursor");
+      }
+    }
+
+    // Fetch one extra row to learn whether another page exists without a count query
+    List<ScreenSummaryView> rows = screenRepository.findSummariesAfter(
+        TenantContext.getTenantId(), afterPath, status, type, Limit.of(limit + 1));
+    boolean hasMore = rows.size() > limit;
+    List<ScreenSummaryView> page = hasMore ? rows.subList(0, limit) : rows;
+    String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).getPath()) : null;
+    return ResponseEntity.ok(new ScreenPage(page.stream().map(screenMapper::toSummaryDto).toList(), nextCursor));
+  }
 
   @PostMapping
   @Operation(
@@ -103,6 +174,9 @@ public class AdminScreensController {
     s.setRedirectStatus(req.getRedirectStatus());
 
     Screen saved = screenRepository.save(s);
+    // Drops a cached 404 for this path so the new screen is visible immediately
+    publishedScreenCache.invalidate(TenantContext.getTenantId(), saved.getPath());
+    redirectTable.refresh(TenantContext.getTenantId(), List.of(saved.getPath()));
     ScreenDto dto = screenMapper.toDto(saved);
     return ResponseEntity.created(URI.create("/api/v1/admin/screens/" + saved.getId())).body(dto);
   }
@@ -149,6 +223,7 @@ public class AdminScreensController {
     }
 
     Screen s = screenOpt.get();
+    String previousPath = s.getPath();
 
     if (req.getPath() != null) {
       String normalized = PathNormalizer.normalize(req.getPath());
@@ -181,6 +256,10 @@ public class AdminScreensController {
     }
 
     Screen saved = screenRepository.save(s);
+    UUID tenantId = TenantContext.getTenantId();
+    publishedScreenCache.invalidate(tenantId, previousPath);
+    publishedScreenCache.invalidate(tenantId, saved.getPath());
+    redirectTable.refresh(tenantId, List.of(previousPath, saved.getPath()));
     ScreenDto dto = screenMapper.toDto(saved);
     return ResponseEntity.ok(dto);
   }
@@ -203,30 +282,23 @@ public class AdminScreensController {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
     screenRepository.deleteById(id);
+    publishedScreenCache.invalidate(TenantContext.getTenantId(), screenOpt.get().getPath());
+    redirectTable.refresh(TenantContext.getTenantId(), List.of(screenOpt.get().getPath()));
     return ResponseEntity.noContent().build();
   }
 
-  private String validateTypeSpecific(ScreenType type, String content, String redirectUrl, Integer redirectStatus) {
-    if (type == ScreenType.REDIRECT) {
-      if (redirectUrl == null || redirectUrl.isBlank()) {
-        return "redirectTargetUrl is required for REDIRECT type";
-      }
-      if (redirectStatus == null || !ALLOWED_REDIRECT_STATUSES.contains(redirectStatus)) {
-        return "redirectStatus must be one of 301,302,307,308 for REDIRECT type";
-      }
-    } else {
-      // All non-redirect screen types require content
-      if (content == null || content.isBlank()) {
-        return "content is required for non-REDIRECT screen types";
-      }
-    }
-    return null;
+  private static String encodeCursor(String path) {
+    // Keyset is lower(path); stored paths are already lowercase, but keep the cursor consistent with the query
+    byte[] key = path.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(key);
   }
 
-  private String defaultContent(ScreenType type, String content) {
-    if (type == ScreenType.REDIRECT) {
-      return content; // ignored for redirect
+  private static String decodeCursor(String cursor) {
+    try {
+      String path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return path.startsWith("/") ? path : null;
+    } catch (IllegalArgumentException e) {
+      return null;
     }
-    return content != null ? content : "{}";
   }
 }
@@ -0,0 +1,41 @@
+package com.rhettharrison.cms.platform.web.controller.admin;
+
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import java.util.Set;
+
+/**
+ * Type-specific screen rules shared by the single-screen and bulk admin endpoints.
+ */
+final class ScreenRequestValidator {
+
+  private static final Set<Integer> ALLOWED_REDIRECT_STATUSES = Set.of(301, 302, 307, 308);
+
+  private ScreenRequestValidator() {}
+
+  /**
+   * Returns an error message, or null when the combination is valid.
+   */
+  static String validateTypeSpecific(ScreenType type, String content, String redirectUrl, Integer redirectStatus) {
+    if (type == ScreenType.REDIRECT) {
+      if (redirectUrl == null || redirectUrl.isBlank()) {
+        return "redirectTargetUrl is required for REDIRECT type";
+      }
+      if (redirectStatus == null || !ALLOWED_REDIRECT_STATUSES.contains(redirectStatus)) {
+        return "redirectStatus must be one of 301,302,307,308 for REDIRECT type";
+      }
+    } else {
+      // All non-redirect screen types require content
+      if (content == null || content.isBlank()) {
+        return "content is required for non-REDIRECT screen types";
+      }
+    }
+    return null;
+  }
+
+  static String defaultContent(ScreenType type, String content) {
+    if (type == ScreenType.REDIRECT) {
+      return content; // ignored for redirect
+    }
+    return content != null ? content : "{}";
+  }
+}
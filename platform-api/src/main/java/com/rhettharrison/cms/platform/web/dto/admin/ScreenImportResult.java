@@ -0,0 +1,22 @@
+package com.rhettharrison.cms.platform.web.dto.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk screen import: totals plus one entry per input row, in input order.
+ */
+public record ScreenImportResult(
+    int created,
+    int conflicts,
+    int invalid,
+    int failed,
+    List<Row> rows
+) {
+
+  public enum Status { CREATED, CONFLICT, INVALID, FAILED }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record Row(int index, String path, Status status, UUID id, String error) {}
+}
@@ -0,0 +1,8 @@
+package com.rhettharrison.cms.platform.web.dto.admin;
+
+import java.util.List;
+
+/**
+ * One page of the admin screen listing. nextCursor is opaque and null on the last page.
+ */
+public record ScreenPage(List<ScreenSummaryDto> items, String nextCursor) {}
@@ -0,0 +1,23 @@
+package com.rhettharrison.cms.platform.web.dto.admin;
+
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ScreenSummaryDto {
+  private UUID id;
+  private String path;
+  private ScreenType type;
+  private ScreenStatus status;
+  private Instant publishedAt;
+  private Instant updatedAt;
+
+  // For redirects (optional, may be null)
+  private String redirectTargetUrl;
+  private Integer redirectStatus;
+}
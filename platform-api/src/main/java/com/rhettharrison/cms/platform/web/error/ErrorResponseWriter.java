@@ -5,8 +5,10 @@ import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.UUID;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 
 public final class ErrorResponseWriter {
   private static final ObjectMapper mapper = new ObjectMapper();
@@ -23,4 +25,16 @@ public final class ErrorResponseWriter {
     response.setContentType("application/json");
     mapper.writeValue(response.getOutputStream(), body);
   }
+
+  public static void write(HttpServletResponse response, int status, String code, String message, Duration retryAfter)
+      throws IOException {
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds(retryAfter));
+    write(response, status, code, message);
+  }
+
+  // Retry-After takes whole seconds; round up so clients never retry early
+  static String retryAfterSeconds(Duration retryAfter) {
+    long seconds = (retryAfter.toMillis() + 999) / 1000;
+    return String.valueOf(Math.max(1, seconds));
+  }
 }
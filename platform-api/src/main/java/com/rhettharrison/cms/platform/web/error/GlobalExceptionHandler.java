@@ -1,16 +1,22 @@
 package com.rhettharrison.cms.platform.web.error;
 
+import com.rhettharrison.cms.platform.common.datasource.TenantBulkheadFullException;
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.security.LoginThrottledException;
+import com.rhettharrison.cms.platform.security.PasswordHashingBusyException;
 import org.slf4j.MDC;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.UUID;
 
@@ -36,6 +42,12 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
   }
 
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    ErrorResponse body = new ErrorResponse("BAD_REQUEST", "Invalid value for parameter '" + ex.getName() + "'", traceId(), tenantId());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+  }
+
   @ExceptionHandler(AuthenticationException.class)
   public ResponseEntity<ErrorResponse> handleAuth(AuthenticationException ex) {
     ErrorResponse body = new ErrorResponse("UNAUTHENTICATED", ex.getMessage(), traceId(), tenantId());
@@ -48,6 +60,35 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
   }
 
+  @ExceptionHandler(LoginThrottledException.class)
+  public ResponseEntity<ErrorResponse> handleLoginThrottled(LoginThrottledException ex) {
+    ErrorResponse body = new ErrorResponse("TOO_MANY_REQUESTS", ex.getMessage(), traceId(), tenantId());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, ErrorResponseWriter.retryAfterSeconds(ex.getRetryAfter()))
+        .body(body);
+  }
+
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<ErrorResponse> handleHashingBusy(PasswordHashingBusyException ex) {
+    ErrorResponse body = new ErrorResponse("SERVICE_UNAVAILABLE", ex.getMessage(), traceId(), tenantId());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, ErrorResponseWriter.retryAfterSeconds(ex.getRetryAfter()))
+        .body(body);
+  }
+
+  // A tenant bulkhead rejection arrives wrapped by Spring or Hibernate; anything else stays a 500
+  @ExceptionHandler({DataAccessException.class, TransactionException.class})
+  public ResponseEntity<ErrorResponse> handleDataAccess(RuntimeException ex) {
+    TenantBulkheadFullException rejected = TenantBulkheadFullException.find(ex);
+    if (rejected == null) {
+      return handleGeneric(ex);
+    }
+    ErrorResponse body = new ErrorResponse("SERVICE_UNAVAILABLE", rejected.getMessage(), traceId(), tenantId());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, ErrorResponseWriter.retryAfterSeconds(rejected.getRetryAfter()))
+        .body(body);
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
     ErrorResponse body = new ErrorResponse("BAD_REQUEST", ex.getMessage(), traceId(), tenantId());
@@ -0,0 +1,91 @@
+package com.rhettharrison.cms.platform.web.filter;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.common.util.PathNormalizer;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Server-side redirect mode: answers GET/HEAD for page paths that match a published REDIRECT screen
+ * with a real 301/302/307/308, using the compiled RedirectTable instead of a database query.
+ * Runs after tenant resolution and before security and MVC. API and platform paths are never
+ * redirected. Disabled unless app.redirects.server-side.enabled=true.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2) // Needs the tenant from TenantResolutionFilter
+public class RedirectFilter extends OncePerRequestFilter {
+
+  private final RedirectTable redirectTable;
+  private final boolean enabled;
+
+  public RedirectFilter(
+      RedirectTable redirectTable,
+      @Value("${app.redirects.server-side.enabled:false}") boolean enabled
+  ) {
+    this.redirectTable = redirectTable;
+    this.enabled = enabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!enabled) return true;
+    String method = request.getMethod();
+    if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method)) return true;
+    String path = request.getRequestURI();
+    if (path == null) return true;
+    return path.startsWith("/api/")
+        || path.startsWith("/auth/")
+        || path.startsWith("/actuator")
+        || path.startsWith("/v3/api-docs")
+        || path.startsWith("/swagger-ui")
+        || path.equals("/health")
+        || path.equals("/sitemap.xml")
+        || path.startsWith("/sitemaps/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    UUID tenantId = TenantContext.getTenantIdOrNull();
+    String path = tenantId != null ? normalize(request.getRequestURI()) : null;
+    Optional<RedirectTable.Redirect> redirect = path != null ? redirectTable.lookup(tenantId, path) : Optional.empty();
+    if (redirect.isEmpty()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    String location = redirect.get().targetUrl();
+    String query = request.getQueryString();
+    if (query != null && location.indexOf('?') < 0) {
+      // Keep campaign/tracking parameters across legacy URL moves
+      location = location + "?" + query;
+    }
+    response.setStatus(redirect.get().status());
+    response.setHeader(HttpHeaders.LOCATION, location);
+  }
+
+  private static String normalize(String requestUri) {
+    try {
+      return PathNormalizer.normalize(UriUtils.decode(requestUri, StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      // Malformed percent-encoding: not a path we could have stored
+      return null;
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package com.rhettharrison.cms.platform.web.filter;
 
+import com.rhettharrison.cms.platform.common.datasource.ReplicaReads;
+import com.rhettharrison.cms.platform.common.datasource.TenantBulkheadFullException;
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.common.tenant.TenantResolutionCache;
 import com.rhettharrison.cms.platform.domain.model.Tenant;
 import com.rhettharrison.cms.platform.domain.model.TenantDomain;
 import com.rhettharrison.cms.platform.domain.model.TenantDomainRepository;
@@ -34,6 +37,7 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
   private final TenantRepository tenantRepository;
   private final TenantDomainRepository tenantDomainRepository;
   private final Environment environment;
+  private final TenantResolutionCache tenantResolutionCache;
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -60,8 +64,9 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
         return;
       }
 
-      // Resolve tenant
-      Optional<UUID> tenantId = resolveTenantId(domain);
+      // Resolve tenant (cached, including negative lookups for unknown hosts)
+      // Cache misses may be served by a read replica; domain changes pin reads to the primary
+      Optional<UUID> tenantId = tenantResolutionCache.resolve(domain, d -> ReplicaReads.call(() -> resolveTenantId(d)));
 
       if (tenantId.isEmpty()) {
         logger.warn("Unknown tenant for domain: {}", domain);
@@ -69,16 +74,26 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
         return;
       }
 
-      TenantContext.setTenantId(tenantId.get());
       MDC.put("tenantId", tenantId.get().toString());
       if (logger.isDebugEnabled()) {
         logger.debug("Resolved tenantId={} for request host header: {}", tenantId.get(), request.getHeader("Host"));
       }
 
-      filterChain.doFilter(request, response);
+      // Bound for the rest of the chain; the scope restores the previous (empty) context on exit
+      try (TenantContext.Scope ignored = TenantContext.bind(tenantId.get())) {
+        try {
+          filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException e) {
+          // Database work in later filters (redirect tables) is not covered by the controller advice
+          TenantBulkheadFullException rejected = TenantBulkheadFullException.find(e);
+          if (rejected == null || response.isCommitted()) {
+            throw e;
+          }
+          ErrorResponseWriter.write(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE",
+              rejected.getMessage(), rejected.getRetryAfter());
+        }
+      }
     } finally {
-      // Always clear after request
-      TenantContext.clear();
       MDC.remove("tenantId");
     }
   }
@@ -0,0 +1,76 @@
+package com.rhettharrison.cms.platform.web.mapper;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Serializes ScreenDto to UTF-8 JSON bytes with the same shape the MVC message converter produces
+ * (all fields, nulls included, ISO-8601 instants). Used to pre-serialize cached public responses.
+ */
+public final class ScreenJsonWriter {
+
+  // Bump when the serialized shape changes; it is part of the public ETag
+  public static final int FORMAT_VERSION = 1;
+
+  private static final JsonFactory factory = new JsonFactory();
+
+  private ScreenJsonWriter() {}
+
+  public static byte[] toJsonBytes(ScreenDto dto) {
+    int contentLength = dto.getContent() != null ? dto.getContent().length() : 0;
+    ByteArrayOutputStream out = new ByteArrayOutputStream(256 + contentLength + contentLength / 8);
+    try (JsonGenerator g = factory.createGenerator(out, JsonEncoding.UTF8)) {
+      g.writeStartObject();
+      g.writeStringField("id", dto.getId() != null ? dto.getId().toString() : null);
+      g.writeStringField("path", dto.getPath());
+      g.writeStringField("type", dto.getType() != null ? dto.getType().name() : null);
+      g.writeStringField("status", dto.getStatus() != null ? dto.getStatus().name() : null);
+      g.writeStringField("content", dto.getContent());
+      g.writeStringField("publishedAt", dto.getPublishedAt() != null ? dto.getPublishedAt().toString() : null);
+      g.writeStringField("redirectTargetUrl", dto.getRedirectTargetUrl());
+      if (dto.getRedirectStatus() != null) {
+        g.writeNumberField("redirectStatus", dto.getRedirectStatus());
+      } else {
+        g.writeNullField("redirectStatus");
+      }
+      g.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Generator for streamed responses. Open arrays/objects are not auto-closed, so a stream that
+   * fails midway is visibly truncated instead of looking like a complete document.
+   */
+  public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+    return factory.createGenerator(out, JsonEncoding.UTF8)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+  }
+
+  /**
+   * Writes the content-free navigation entry used by the subtree listing.
+   */
+  public static void writeTreeItem(JsonGenerator g, Screen s) throws IOException {
+    g.writeStartObject();
+    g.writeStringField("id", s.getId() != null ? s.getId().toString() : null);
+    g.writeStringField("path", s.getPath());
+    g.writeStringField("type", s.getType() != null ? s.getType().name() : null);
+    g.writeStringField("publishedAt", s.getPublishedAt() != null ? s.getPublishedAt().toString() : null);
+    g.writeStringField("redirectTargetUrl", s.getRedirectTargetUrl());
+    if (s.getRedirectStatus() != null) {
+      g.writeNumberField("redirectStatus", s.getRedirectStatus());
+    } else {
+      g.writeNullField("redirectStatus");
+    }
+    g.writeEndObject();
+  }
+}
@@ -1,10 +1,14 @@
 package com.rhettharrison.cms.platform.web.mapper;
 
 import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenSummaryView;
 import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenSummaryDto;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
 public interface ScreenMapper {
   ScreenDto toDto(Screen s);
+
+  ScreenSummaryDto toSummaryDto(ScreenSummaryView v);
 }
@@ -0,0 +1,77 @@
+package com.rhettharrison.cms.platform.web.mapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Incremental writer for sitemap protocol documents (urlset or sitemapindex). Entries are written
+ * straight to the stream, so document size does not affect memory use. finish() ends the document
+ * and flushes but leaves the underlying stream open; a writer abandoned on error leaves the
+ * document visibly truncated.
+ */
+public final class SitemapXmlWriter {
+
+  public static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+  private static final XMLOutputFactory factory = XMLOutputFactory.newFactory();
+
+  private final XMLStreamWriter xml;
+  private final String entryElement;
+
+  private SitemapXmlWriter(OutputStream out, String rootElement, String entryElement) throws IOException {
+    this.entryElement = entryElement;
+    try {
+      this.xml = factory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+      xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+      xml.writeStartElement(rootElement);
+      xml.writeDefaultNamespace(NAMESPACE);
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  public static SitemapXmlWriter urlset(OutputStream out) throws IOException {
+    return new SitemapXmlWriter(out, "urlset", "url");
+  }
+
+  public static SitemapXmlWriter sitemapIndex(OutputStream out) throws IOException {
+    return new SitemapXmlWriter(out, "sitemapindex", "sitemap");
+  }
+
+  /**
+   * Writes a url (urlset) or sitemap (sitemapindex) entry. loc must already be URI-encoded.
+   */
+  public void entry(String loc, Instant lastModified) throws IOException {
+    try {
+      xml.writeStartElement(entryElement);
+      xml.writeStartElement("loc");
+      xml.writeCharacters(loc);
+      xml.writeEndElement();
+      if (lastModified != null) {
+        xml.writeStartElement("lastmod");
+        xml.writeCharacters(lastModified.truncatedTo(ChronoUnit.SECONDS).toString());
+        xml.writeEndElement();
+      }
+      xml.writeEndElement();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  public void finish() throws IOException {
+    try {
+      xml.writeEndElement();
+      xml.writeEndDocument();
+      xml.flush();
+      xml.close();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+-- V10__screens_listing_indexes.sql
+-- Keyset pagination for the admin screen listing seeks and sorts on lower(path) within a tenant.
+-- The unfiltered listing is served by uq_screens_tenant_lower_path (V7); these cover the
+-- status and type filters so a filtered page never scans the tenant's other screens.
+
+CREATE INDEX IF NOT EXISTS idx_screens_tenant_status_lower_path
+    ON screens (tenant_id, status, lower(path));
+
+CREATE INDEX IF NOT EXISTS idx_screens_tenant_type_lower_path
+    ON screens (tenant_id, type, lower(path));
@@ -0,0 +1,8 @@
+-- V11__screens_published_path_prefix_index.sql
+-- Subtree ("list children of a path") queries over published screens. The "C" collation makes
+-- byte-order range scans valid for any database collation, so a prefix becomes an index range
+-- and results come back in path order without a sort. Partial on PUBLISHED to keep it small.
+
+CREATE INDEX IF NOT EXISTS idx_screens_published_path_prefix
+    ON screens (tenant_id, (lower(path) COLLATE "C"))
+    WHERE status = 'PUBLISHED';
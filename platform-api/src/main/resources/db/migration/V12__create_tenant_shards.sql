@@ -0,0 +1,26 @@
+-- V12__create_tenant_shards.sql
+-- Shard directory: which database holds a tenant's screens and users. Lives in the main database
+-- alongside tenants and tenant_domains; tenants without a row stay in the main database.
+-- moving = true freezes the tenant's writes while TenantShardMover copies it to another shard.
+
+CREATE TABLE IF NOT EXISTS tenant_shards (
+    tenant_id  UUID PRIMARY KEY REFERENCES tenants(id) ON DELETE CASCADE,
+    shard_id   VARCHAR(64) NOT NULL,
+    moving     BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Every node reloads the tenant's assignment (and drops its cached data) on change
+CREATE OR REPLACE FUNCTION notify_tenant_shard_cache_invalidation() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('cache_invalidation', jsonb_build_object(
+        'scope', 'TENANT',
+        'tenantId', COALESCE(NEW.tenant_id, OLD.tenant_id),
+        'keys', jsonb_build_array())::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tenant_shards_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON tenant_shards
+    FOR EACH ROW EXECUTE FUNCTION notify_tenant_shard_cache_invalidation();
@@ -0,0 +1,27 @@
+-- V13__screen_cache_invalidation_ids.sql
+-- Adds the screen id to SCREEN notifications so the Hibernate second-level cache can evict the
+-- changed screen alone instead of every tenant's screens.
+-- Payload: {"scope": "SCREEN", "tenantId": "<uuid>", "keys": [...], "ids": ["<uuid>"]}
+
+CREATE OR REPLACE FUNCTION notify_screen_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+    keys JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        keys := jsonb_build_array(NEW.path);
+    ELSIF TG_OP = 'DELETE' THEN
+        keys := jsonb_build_array(OLD.path);
+    ELSIF OLD.path IS DISTINCT FROM NEW.path THEN
+        keys := jsonb_build_array(OLD.path, NEW.path);
+    ELSE
+        keys := jsonb_build_array(NEW.path);
+    END IF;
+
+    PERFORM pg_notify('cache_invalidation', jsonb_build_object(
+        'scope', 'SCREEN',
+        'tenantId', COALESCE(NEW.tenant_id, OLD.tenant_id),
+        'keys', keys,
+        'ids', jsonb_build_array(COALESCE(NEW.id, OLD.id)))::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,69 @@
+-- V9__cache_invalidation_notify.sql
+-- Publish changes that affect in-process caches on the 'cache_invalidation' channel so every
+-- platform-api node can evict its copies. NOTIFY is transactional: listeners only receive the
+-- message once the writing transaction commits, and duplicates within a transaction are folded.
+-- Payload: {"scope": "SCREEN|DOMAIN|TENANT", "tenantId": "<uuid>", "keys": [...]}
+
+CREATE OR REPLACE FUNCTION notify_screen_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+    keys JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        keys := jsonb_build_array(NEW.path);
+    ELSIF TG_OP = 'DELETE' THEN
+        keys := jsonb_build_array(OLD.path);
+    ELSIF OLD.path IS DISTINCT FROM NEW.path THEN
+        keys := jsonb_build_array(OLD.path, NEW.path);
+    ELSE
+        keys := jsonb_build_array(NEW.path);
+    END IF;
+
+    PERFORM pg_notify('cache_invalidation', jsonb_build_object(
+        'scope', 'SCREEN',
+        'tenantId', COALESCE(NEW.tenant_id, OLD.tenant_id),
+        'keys', keys)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notify_tenant_domain_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+    keys JSONB;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        keys := jsonb_build_array(NEW.domain);
+    ELSIF TG_OP = 'DELETE' THEN
+        keys := jsonb_build_array(OLD.domain);
+    ELSE
+        keys := jsonb_build_array(OLD.domain, NEW.domain);
+    END IF;
+
+    PERFORM pg_notify('cache_invalidation', jsonb_build_object(
+        'scope', 'DOMAIN',
+        'tenantId', COALESCE(NEW.tenant_id, OLD.tenant_id),
+        'keys', keys)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notify_tenant_cache_invalidation() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('cache_invalidation', jsonb_build_object(
+        'scope', 'TENANT',
+        'tenantId', COALESCE(NEW.id, OLD.id),
+        'keys', jsonb_build_array())::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_screens_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON screens
+    FOR EACH ROW EXECUTE FUNCTION notify_screen_cache_invalidation();
+
+CREATE TRIGGER trg_tenant_domains_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON tenant_domains
+    FOR EACH ROW EXECUTE FUNCTION notify_tenant_domain_cache_invalidation();
+
+CREATE TRIGGER trg_tenants_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON tenants
+    FOR EACH ROW EXECUTE FUNCTION notify_tenant_cache_invalidation();
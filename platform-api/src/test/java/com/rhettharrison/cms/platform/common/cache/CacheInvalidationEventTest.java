@@ -0,0 +1,55 @@
+package com.rhettharrison.cms.platform.common.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CacheInvalidationEventTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  void fromPayload_parsesScreenNotification() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    String payload = "{\"scope\": \"SCREEN\", \"tenantId\": \"" + tenantId + "\", \"keys\": [\"/old\", \"/new\"]}";
+
+    CacheInvalidationEvent event = CacheInvalidationEvent.fromPayload(mapper, payload);
+
+    assertEquals(CacheInvalidationEvent.Scope.SCREEN, event.scope());
+    assertEquals(tenantId, event.tenantId());
+    assertEquals(List.of("/old", "/new"), event.keys());
+    assertTrue(event.ids().isEmpty());
+  }
+
+  @Test
+  void fromPayload_parsesScreenIds() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    UUID screenId = UUID.randomUUID();
+    String payload = "{\"scope\": \"SCREEN\", \"tenantId\": \"" + tenantId + "\", \"keys\": [\"/about\"], "
+        + "\"ids\": [\"" + screenId + "\"]}";
+
+    CacheInvalidationEvent event = CacheInvalidationEvent.fromPayload(mapper, payload);
+
+    assertEquals(List.of(screenId), event.ids());
+  }
+
+  @Test
+  void fromPayload_tenantNotificationHasNoKeys() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+
+    CacheInvalidationEvent event = CacheInvalidationEvent.fromPayload(mapper,
+        "{\"scope\": \"TENANT\", \"tenantId\": \"" + tenantId + "\", \"keys\": []}");
+
+    assertEquals(CacheInvalidationEvent.Scope.TENANT, event.scope());
+    assertTrue(event.keys().isEmpty());
+  }
+
+  @Test
+  void fromPayload_rejectsUnknownScope() {
+    assertThrows(IllegalArgumentException.class,
+        () -> CacheInvalidationEvent.fromPayload(mapper, "{\"scope\": \"NOPE\", \"keys\": []}"));
+  }
+}
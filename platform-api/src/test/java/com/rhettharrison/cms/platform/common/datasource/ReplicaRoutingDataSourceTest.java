@@ -0,0 +1,143 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replicaA = mock(DataSource.class);
+  private final DataSource replicaB = mock(DataSource.class);
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaAConnection = mock(Connection.class);
+  private final Connection replicaBConnection = mock(Connection.class);
+
+  private final ReplicaRoutingDataSource.Replica a = new ReplicaRoutingDataSource.Replica("replica-0", replicaA);
+  private final ReplicaRoutingDataSource.Replica b = new ReplicaRoutingDataSource.Replica("replica-1", replicaB);
+  private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+      primary, List.of(a, b), Duration.ofSeconds(5), new SimpleMeterRegistry(), clock::get);
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() throws Exception {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replicaA.getConnection()).thenReturn(replicaAConnection);
+    when(replicaB.getConnection()).thenReturn(replicaBConnection);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void outsideReplicaScope_usesPrimary() throws Exception {
+    assertSame(primaryConnection, routing.getConnection());
+  }
+
+  @Test
+  void insideReplicaScope_withoutReadOnlyTransaction_usesPrimary() throws Exception {
+    assertSame(primaryConnection, ReplicaReads.call(() -> {
+      try {
+        return routing.getConnection();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }));
+  }
+
+  @Test
+  void insideReplicaScope_roundRobinsReplicas() throws Exception {
+    Connection first = ReplicaReads.call(this::connect);
+    Connection second = ReplicaReads.call(this::connect);
+
+    assertNotSame(primaryConnection, first);
+    assertNotSame(primaryConnection, second);
+    assertNotSame(first, second);
+  }
+
+  @Test
+  void laggingReplica_isSkipped_andNoneHealthyFallsBackToPrimary() {
+    a.update(false, Duration.ofSeconds(30));
+
+    assertSame(replicaBConnection, ReplicaReads.call(this::connect));
+    assertSame(replicaBConnection, ReplicaReads.call(this::connect));
+
+    b.update(false, Duration.ofSeconds(30));
+    assertSame(primaryConnection, ReplicaReads.call(this::connect));
+  }
+
+  @Test
+  void readWriteTransaction_pinsTenantToPrimaryForWindow() throws Exception {
+    TenantContext.runWith(tenantId, () -> {
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+      try {
+        routing.readWriteDataSource().getConnection();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      } finally {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+      }
+
+      assertSame(primaryConnection, ReplicaReads.call(this::connect));
+
+      clock.addAndGet(Duration.ofSeconds(6).toNanos());
+      assertNotSame(primaryConnection, ReplicaReads.call(this::connect));
+    });
+  }
+
+  @Test
+  void nonTransactionalPrimaryUse_doesNotPin() throws Exception {
+    TenantContext.runWith(tenantId, () -> {
+      try {
+        routing.readWriteDataSource().getConnection();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+      assertFalse(routing.isPinned(tenantId));
+    });
+  }
+
+  @Test
+  void cacheInvalidation_pinsTenantOrEverything() {
+    UUID other = UUID.randomUUID();
+    routing.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.SCREEN, tenantId, List.of("/a")));
+
+    assertTrue(routing.isPinned(tenantId));
+    assertFalse(routing.isPinned(other));
+
+    routing.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.DOMAIN, null, List.of("a.example")));
+    assertTrue(routing.isPinned(other));
+    assertTrue(routing.isPinned(null));
+  }
+
+  // As a read-only transaction does, which is what makes the connection replica-eligible
+  private Connection connect() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      return routing.getConnection();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+  }
+}
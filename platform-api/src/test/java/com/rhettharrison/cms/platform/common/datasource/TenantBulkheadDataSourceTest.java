@@ -0,0 +1,202 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+class TenantBulkheadDataSourceTest {
+
+  private final DataSource target = mock(DataSource.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final UUID tenantA = UUID.randomUUID();
+  private final UUID tenantB = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() throws Exception {
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    threads.shutdownNow();
+    TenantContext.clear();
+  }
+
+  @Test
+  void withoutTenant_bypassesPermits() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(1, 1, 0, Duration.ZERO, Map.of());
+    Connection held = connectAs(bulkhead, tenantA);
+
+    Connection platform = bulkhead.getConnection();
+
+    assertFalse(platform instanceof ConnectionProxy);
+    assertEquals(0, bulkhead.availablePermits());
+    held.close();
+  }
+
+  @Test
+  void close_returnsPermitOnce() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(2, 2, 0, Duration.ZERO, Map.of());
+    Connection connection = connectAs(bulkhead, tenantA);
+    Connection physical = ((ConnectionProxy) connection).getTargetConnection();
+    assertEquals(1, bulkhead.availablePermits());
+
+    connection.close();
+    connection.close();
+
+    assertEquals(2, bulkhead.availablePermits());
+    verify(physical, times(2)).close();
+  }
+
+  @Test
+  void tenantAtLimit_withFullQueue_isRejectedAtOnce() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(4, 1, 0, Duration.ofSeconds(5), Map.of());
+    Connection held = connectAs(bulkhead, tenantA);
+
+    TenantBulkheadFullException ex =
+        assertThrows(TenantBulkheadFullException.class, () -> connectElsewhere(bulkhead, tenantA));
+
+    assertEquals(tenantA, ex.getTenantId());
+    assertEquals(1.0, meterRegistry.get(TenantBulkheadDataSource.METRIC_PREFIX + ".rejected")
+        .tag("tenant", tenantA.toString()).tag("reason", "tenant_queue_full").counter().count());
+    // Other tenants still get the free permits
+    connectElsewhere(bulkhead, tenantB).close();
+    held.close();
+  }
+
+  @Test
+  void waitLongerThanMaxWait_isRejected() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(1, 1, 4, Duration.ofMillis(50), Map.of());
+    Connection held = connectAs(bulkhead, tenantA);
+
+    assertThrows(TenantBulkheadFullException.class, () -> connectElsewhere(bulkhead, tenantB));
+
+    assertEquals(0, bulkhead.waitingRequests());
+    assertEquals(1.0, meterRegistry.get(TenantBulkheadDataSource.METRIC_PREFIX + ".rejected")
+        .tag("tenant", tenantB.toString()).tag("reason", "timeout").counter().count());
+    held.close();
+    assertEquals(1, bulkhead.availablePermits());
+  }
+
+  @Test
+  void nestedConnectionOnSameThread_doesNotTakeAnotherPermit() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(1, 1, 0, Duration.ZERO, Map.of());
+
+    TenantContext.runWith(tenantA, () -> {
+      try (Connection outer = bulkhead.getConnection(); Connection inner = bulkhead.getConnection()) {
+        assertInstanceOf(ConnectionProxy.class, outer);
+        assertFalse(inner instanceof ConnectionProxy);
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    });
+    assertEquals(1, bulkhead.availablePermits());
+  }
+
+  @Test
+  void freedPermits_goToWaitersByFairShare_notArrivalOrder() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(1, 1, 8, Duration.ofSeconds(10), Map.of());
+    Connection held = connectAs(bulkhead, tenantA);
+    BlockingQueue<Granted> granted = new LinkedBlockingQueue<>();
+
+    // Tenant A queues two requests before tenant B queues one
+    waitInBackground(bulkhead, tenantA, "a1", granted, 1);
+    waitInBackground(bulkhead, tenantA, "a2", granted, 2);
+    waitInBackground(bulkhead, tenantB, "b1", granted, 3);
+
+    held.close();
+    assertEquals(List.of("a1", "b1", "a2"), drain(granted, 3));
+  }
+
+  @Test
+  void heavierWeight_getsProportionallyMorePermits() throws Exception {
+    TenantBulkheadDataSource bulkhead = bulkhead(1, 1, 8, Duration.ofSeconds(10), Map.of(tenantB, 2));
+    Connection held = connectAs(bulkhead, tenantA);
+    BlockingQueue<Granted> granted = new LinkedBlockingQueue<>();
+
+    waitInBackground(bulkhead, tenantA, "a1", granted, 1);
+    waitInBackground(bulkhead, tenantA, "a2", granted, 2);
+    waitInBackground(bulkhead, tenantB, "b1", granted, 3);
+    waitInBackground(bulkhead, tenantB, "b2", granted, 4);
+
+    held.close();
+    assertEquals(List.of("b1", "a1", "b2", "a2"), drain(granted, 4));
+  }
+
+  private TenantBulkheadDataSource bulkhead(int permits, int perTenantMax, int queueCapacity, Duration maxWait,
+      Map<UUID, Integer> weights) {
+    return new TenantBulkheadDataSource(target, new TenantBulkheadDataSource.Settings(
+        permits, perTenantMax, queueCapacity, maxWait, Duration.ofSeconds(1), weights), meterRegistry);
+  }
+
+  private static Connection connectAs(DataSource dataSource, UUID tenantId) throws Exception {
+    try (TenantContext.Scope ignored = TenantContext.bind(tenantId)) {
+      return dataSource.getConnection();
+    }
+  }
+
+  // Another thread, since a thread that already holds a permit is not limited again
+  private Connection connectElsewhere(DataSource dataSource, UUID tenantId) throws Exception {
+    try {
+      return threads.submit(() -> connectAs(dataSource, tenantId)).get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
+  private void waitInBackground(TenantBulkheadDataSource bulkhead, UUID tenantId, String name,
+      BlockingQueue<Granted> granted, int expectedWaiting) throws InterruptedException {
+    threads.execute(() -> {
+      try {
+        granted.add(new Granted(name, connectAs(bulkhead, tenantId)));
+      } catch (Exception e) {
+        granted.add(new Granted(name + " failed: " + e, null));
+      }
+    });
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (bulkhead.waitingRequests() < expectedWaiting) {
+      assertTrue(System.nanoTime() < deadline, "request " + name + " never queued");
+      Thread.sleep(1);
+    }
+  }
+
+  // Takes each grant in turn and closes it, which hands the only permit to the next waiter
+  private static List<String> drain(BlockingQueue<Granted> granted, int count) throws Exception {
+    List<String> order = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Granted next = granted.poll(5, TimeUnit.SECONDS);
+      assertNotNull(next, "no grant after " + order);
+      order.add(next.name());
+      if (next.connection() != null) {
+        next.connection().close();
+      }
+    }
+    return order;
+  }
+
+  private record Granted(String name, Connection connection) {}
+}
@@ -0,0 +1,100 @@
+package com.rhettharrison.cms.platform.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class TenantShardRoutingDataSourceTest {
+
+  private final DataSource main = mock(DataSource.class);
+  private final DataSource shardA = mock(DataSource.class);
+  private final Connection mainConnection = mock(Connection.class);
+  private final Connection shardAConnection = mock(Connection.class);
+
+  private final JdbcTemplate directoryJdbc = mock(JdbcTemplate.class);
+  private final TenantShardDirectory directory = new TenantShardDirectory(directoryJdbc);
+  private final TenantShardRoutingDataSource routing =
+      new TenantShardRoutingDataSource(directory, Map.of("main", main, "shard-a", shardA));
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() throws Exception {
+    when(main.getConnection()).thenReturn(mainConnection);
+    when(shardA.getConnection()).thenReturn(shardAConnection);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void noTenant_usesMain() throws Exception {
+    assertSame(mainConnection, routing.getConnection());
+  }
+
+  @Test
+  void unassignedTenant_usesMain() throws Exception {
+    assertSame(mainConnection, TenantContext.callWith(tenantId, this::connect));
+  }
+
+  @Test
+  void assignedTenant_usesItsShard() throws Exception {
+    directory.assign(tenantId, new TenantShardDirectory.Assignment("shard-a", false));
+
+    assertSame(shardAConnection, TenantContext.callWith(tenantId, this::connect));
+    verify(shardAConnection, never()).setReadOnly(true);
+  }
+
+  @Test
+  void movingTenant_getsReadOnlyConnections() throws Exception {
+    directory.assign(tenantId, new TenantShardDirectory.Assignment("main", true));
+
+    assertSame(mainConnection, TenantContext.callWith(tenantId, this::connect));
+    verify(mainConnection).setReadOnly(true);
+  }
+
+  @Test
+  void unknownShard_failsInsteadOfFallingBack() {
+    directory.assign(tenantId, new TenantShardDirectory.Assignment("shard-x", false));
+
+    assertThrows(IllegalStateException.class, () -> TenantContext.callWith(tenantId, this::connect));
+  }
+
+  @Test
+  void tenantInvalidation_reloadsAssignment() {
+    directory.assign(tenantId, new TenantShardDirectory.Assignment("shard-a", false));
+    when(directoryJdbc.query(anyString(), any(RowMapper.class), eq(tenantId))).thenReturn(List.of());
+
+    directory.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.TENANT, tenantId, List.of()));
+
+    assertEquals("main", directory.lookup(tenantId).shardId());
+  }
+
+  private Connection connect() {
+    try {
+      return routing.getConnection();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
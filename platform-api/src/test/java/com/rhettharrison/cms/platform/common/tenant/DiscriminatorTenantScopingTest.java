@@ -0,0 +1,159 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.domain.testentity.TestTenantEntity;
+import com.rhettharrison.cms.platform.domain.testentity.TestTenantEntityRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * app.tenancy.mode=discriminator. No test-managed transaction: the session tenant is fixed when a
+ * session opens, so each repository call runs in its own session under the bound tenant.
+ */
+@SpringBootTest(properties = {
+    "app.tenancy.mode=discriminator",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:tenantDiscriminatorTest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+@DirtiesContext
+class DiscriminatorTenantScopingTest {
+
+  @Autowired private TestTenantEntityRepository repository;
+  @Autowired private ScreenRepository screenRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  private final UUID tenantA = UUID.randomUUID();
+  private final UUID tenantB = UUID.randomUUID();
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+    // Root session: sees every tenant
+    repository.deleteAll();
+    screenRepository.deleteAll();
+  }
+
+  @Test
+  void save_takesTenantFromSession() {
+    TestTenantEntity saved = TenantContext.callWith(tenantA, () -> repository.save(entity("A1")));
+
+    assertEquals(tenantA, saved.getTenantId());
+  }
+
+  @Test
+  void queries_areScopedByTenant() {
+    TenantContext.runWith(tenantA, () -> repository.saveAll(List.of(entity("A1"), entity("A2"))));
+    TenantContext.runWith(tenantB, () -> repository.save(entity("B1")));
+
+    assertEquals(2, TenantContext.callWith(tenantA, repository::findAll).size());
+    assertEquals(1, TenantContext.callWith(tenantB, repository::findAll).size());
+  }
+
+  @Test
+  void findById_ofAnotherTenantsRow_isEmpty() {
+    UUID otherId = TenantContext.callWith(tenantB, () -> repository.save(entity("B1"))).getId();
+
+    assertTrue(TenantContext.callWith(tenantA, () -> repository.findById(otherId)).isEmpty());
+    assertTrue(TenantContext.callWith(tenantB, () -> repository.findById(otherId)).isPresent());
+  }
+
+  @Test
+  void withoutTenant_sessionIsRootAndSeesAllTenants() {
+    TenantContext.runWith(tenantA, () -> repository.save(entity("A1")));
+    TenantContext.runWith(tenantB, () -> repository.save(entity("B1")));
+
+    assertEquals(2, repository.findAll().size());
+  }
+
+  @Test
+  void secondLevelCache_servesOwnTenantOnly() {
+    UUID screenId = TenantContext.callWith(tenantA, () -> screenRepository.save(screen("/about"))).getId();
+
+    TenantContext.runWith(tenantA, () -> screenRepository.findById(screenId));
+    TenantContext.runWith(tenantA, () -> screenRepository.findById(screenId));
+    assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+
+    assertTrue(TenantContext.callWith(tenantB, () -> screenRepository.findById(screenId)).isEmpty());
+  }
+
+  @Test
+  void queryCache_isPartitionedByTenant() {
+    UUID screenA = TenantContext.callWith(tenantA, () -> screenRepository.save(screen("/about"))).getId();
+    UUID screenB = TenantContext.callWith(tenantB, () -> screenRepository.save(screen("/about"))).getId();
+
+    assertEquals(screenA, findAbout(tenantA));
+    assertEquals(screenB, findAbout(tenantB));
+    long hitsBefore = statistics.getQueryCacheHitCount();
+    assertEquals(screenA, findAbout(tenantA));
+    assertEquals(screenB, findAbout(tenantB));
+
+    assertEquals(hitsBefore + 2, statistics.getQueryCacheHitCount());
+  }
+
+  @Test
+  void screenInvalidation_evictsOnlyTheChangedScreen() {
+    UUID screenA = TenantContext.callWith(tenantA, () -> screenRepository.save(screen("/about"))).getId();
+    UUID screenB = TenantContext.callWith(tenantB, () -> screenRepository.save(screen("/about"))).getId();
+    TenantContext.runWith(tenantA, () -> screenRepository.findById(screenA));
+    TenantContext.runWith(tenantB, () -> screenRepository.findById(screenB));
+
+    eventPublisher.publishEvent(new CacheInvalidationEvent(
+        CacheInvalidationEvent.Scope.SCREEN, tenantA, List.of("/about"), List.of(screenA)));
+
+    long missesBefore = statistics.getSecondLevelCacheMissCount();
+    long hitsBefore = statistics.getSecondLevelCacheHitCount();
+    TenantContext.runWith(tenantA, () -> screenRepository.findById(screenA));
+    assertEquals(missesBefore + 1, statistics.getSecondLevelCacheMissCount());
+    TenantContext.runWith(tenantB, () -> screenRepository.findById(screenB));
+    assertEquals(hitsBefore + 1, statistics.getSecondLevelCacheHitCount());
+  }
+
+  private UUID findAbout(UUID tenantId) {
+    return TenantContext.callWith(tenantId,
+        () -> screenRepository.findByPathAndStatus("/about", ScreenStatus.PUBLISHED).orElseThrow().getId());
+  }
+
+  private TestTenantEntity entity(String name) {
+    TestTenantEntity e = new TestTenantEntity();
+    e.setName(name);
+    return e;
+  }
+
+  private Screen screen(String path) {
+    Screen s = new Screen();
+    s.setPath(path);
+    s.setType(ScreenType.MARKDOWN);
+    s.setStatus(ScreenStatus.PUBLISHED);
+    s.setContent("{}");
+    return s;
+  }
+}
@@ -0,0 +1,114 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TenantAwareExecutorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  // One running task and two waiting per tenant, on a pool big enough for several tenants
+  private final TenantAwareExecutor executor =
+      new TenantAwareExecutor(new TenantAwareTaskDecorator(), meterRegistry, 4, 4, 100, 1, 2);
+
+  private final UUID tenantA = UUID.randomUUID();
+  private final UUID tenantB = UUID.randomUUID();
+
+  @AfterEach
+  void cleanUp() {
+    TenantContext.clear();
+    executor.destroy();
+  }
+
+  @Test
+  void busyTenantDoesNotBlockOtherTenants() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch bRan = new CountDownLatch(1);
+
+    TenantContext.runWith(tenantA, () -> {
+      executor.execute(() -> await(release));
+      executor.execute(() -> await(release));
+    });
+    TenantContext.runWith(tenantB, () -> executor.execute(bRan::countDown));
+
+    assertTrue(bRan.await(5, TimeUnit.SECONDS));
+    assertEquals(2, executor.inFlight(tenantA));
+    release.countDown();
+  }
+
+  @Test
+  void tasksRunBoundToSubmittingTenantInOrder() throws Exception {
+    CountDownLatch done = new CountDownLatch(3);
+    StringBuffer order = new StringBuffer();
+    AtomicInteger wrongTenant = new AtomicInteger();
+
+    TenantContext.runWith(tenantA, () -> {
+      for (int i = 0; i < 3; i++) {
+        int n = i;
+        executor.execute(() -> {
+          if (!tenantA.equals(TenantContext.getTenantIdOrNull())) {
+            wrongTenant.incrementAndGet();
+          }
+          order.append(n);
+          done.countDown();
+        });
+      }
+    });
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals("012", order.toString());
+    assertEquals(0, wrongTenant.get());
+  }
+
+  @Test
+  void rejectsWhenTenantBacklogIsFull() {
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      TenantContext.runWith(tenantA, () -> {
+        executor.execute(() -> await(release)); // running
+        executor.execute(() -> { });            // waiting
+        executor.execute(() -> { });            // waiting
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+      });
+
+      assertEquals(1.0, meterRegistry.get("tenant.executor.rejected").tag("reason", "tenant_backlog_full").counter().count());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void waitingTaskIsRetried_whenSharedPoolIsFull() throws Exception {
+    // One pool thread and one queue slot, so the hand-off of A's second task is refused
+    TenantAwareExecutor small =
+        new TenantAwareExecutor(new TenantAwareTaskDecorator(), meterRegistry, 1, 1, 1, 1, 2);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    try {
+      TenantContext.runWith(tenantA, () -> small.execute(() -> await(release)));
+      TenantContext.runWith(tenantB, () -> small.execute(done::countDown));
+      TenantContext.runWith(tenantA, () -> small.execute(done::countDown));
+      release.countDown();
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+      assertTrue(meterRegistry.get("tenant.executor.rejected").tag("reason", "pool_full").counter().count() > 0);
+    } finally {
+      small.destroy();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
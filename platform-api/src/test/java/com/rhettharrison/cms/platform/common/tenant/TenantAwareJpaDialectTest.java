@@ -0,0 +1,93 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.rhettharrison.cms.platform.domain.testentity.TestTenantEntity;
+import com.rhettharrison.cms.platform.domain.testentity.TestTenantEntityRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * No test-managed transaction here: each repository call opens its own session, as in a request
+ * with open-in-view disabled, so scoping relies entirely on the dialect.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:tenantDialectTest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+@DirtiesContext
+class TenantAwareJpaDialectTest {
+
+  @Autowired private TestTenantEntityRepository repository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+    repository.deleteAll();
+  }
+
+  @Test
+  void dialectIsInstalledOnEntityManagerFactory() {
+    assertInstanceOf(TenantAwareJpaDialect.class, ((EntityManagerFactoryInfo) entityManagerFactory).getJpaDialect());
+  }
+
+  @Test
+  void eachTransactionIsScopedToCurrentTenant() {
+    UUID tenantA = UUID.randomUUID();
+    UUID tenantB = UUID.randomUUID();
+    saveAs(tenantA, "A1");
+    saveAs(tenantA, "A2");
+    saveAs(tenantB, "B1");
+
+    TenantContext.setTenantId(tenantA);
+    assertEquals(2, repository.findAll().size());
+    TenantContext.clear();
+
+    TenantContext.setTenantId(tenantB);
+    assertEquals(1, repository.findAll().size());
+    TenantContext.clear();
+
+    // Without a tenant the filter stays off (platform-level jobs)
+    assertEquals(3, repository.findAll().size());
+  }
+
+  @Test
+  void derivedQueryMethod_withoutSurroundingTransaction_isScopedToCurrentTenant() {
+    UUID tenantA = UUID.randomUUID();
+    UUID tenantB = UUID.randomUUID();
+    saveAs(tenantA, "same");
+    saveAs(tenantB, "same");
+
+    TenantContext.setTenantId(tenantA);
+    List<TestTenantEntity> found = repository.findByName("same");
+    TenantContext.clear();
+
+    assertEquals(1, found.size());
+    assertEquals(tenantA, found.getFirst().getTenantId());
+    assertEquals(2, repository.findByName("same").size());
+  }
+
+  private void saveAs(UUID tenantId, String name) {
+    TenantContext.setTenantId(tenantId);
+    try {
+      TestTenantEntity e = new TestTenantEntity();
+      e.setName(name);
+      repository.save(e);
+    } finally {
+      TenantContext.clear();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.rhettharrison.cms.platform.common.tenant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class TenantAwareTaskDecoratorTest {
+
+  private final TenantAwareTaskDecorator decorator = new TenantAwareTaskDecorator();
+
+  @AfterEach
+  void cleanUp() {
+    TenantContext.clear();
+    MDC.clear();
+  }
+
+  @Test
+  void decorate_propagatesTenantAndMdcToWorkerAndCleansUp() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    AtomicReference<UUID> seenTenant = new AtomicReference<>();
+    AtomicReference<String> seenRequestId = new AtomicReference<>();
+
+    Runnable task;
+    MDC.put("requestId", "req-1");
+    try (TenantContext.Scope ignored = TenantContext.bind(tenantId)) {
+      task = decorator.decorate(() -> {
+        seenTenant.set(TenantContext.getTenantIdOrNull());
+        seenRequestId.set(MDC.get("requestId"));
+      });
+    }
+
+    try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+      executor.submit(task).get();
+      assertEquals(tenantId, seenTenant.get());
+      assertEquals("req-1", seenRequestId.get());
+
+      // The same pooled thread must not keep the previous task's context
+      assertNull(executor.submit(TenantContext::getTenantIdOrNull).get());
+      assertNull(executor.submit(() -> MDC.get("requestId")).get());
+    }
+  }
+
+  @Test
+  void decorate_withoutTenantRunsUnscoped() {
+    AtomicReference<UUID> seenTenant = new AtomicReference<>(UUID.randomUUID());
+
+    decorator.decorate(() -> seenTenant.set(TenantContext.getTenantIdOrNull())).run();
+
+    assertNull(seenTenant.get());
+  }
+}
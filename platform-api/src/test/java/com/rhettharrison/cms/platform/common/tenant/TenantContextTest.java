@@ -4,6 +4,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +97,52 @@ class TenantContextTest {
 
     assertEquals(secondTenantId, TenantContext.getTenantId());
   }
+
+  @Test
+  void bind_restoresEmptyContextOnClose() {
+    UUID tenantId = UUID.randomUUID();
+
+    try (TenantContext.Scope ignored = TenantContext.bind(tenantId)) {
+      assertEquals(tenantId, TenantContext.getTenantId());
+    }
+
+    assertNull(TenantContext.getTenantIdOrNull());
+  }
+
+  @Test
+  void bind_allowsNestingSameTenantButRejectsAnother() {
+    UUID tenantId = UUID.randomUUID();
+
+    try (TenantContext.Scope outer = TenantContext.bind(tenantId)) {
+      try (TenantContext.Scope inner = TenantContext.bind(tenantId)) {
+        assertEquals(tenantId, TenantContext.getTenantId());
+      }
+      // Closing the inner scope keeps the outer binding
+      assertEquals(tenantId, TenantContext.getTenantId());
+      assertThrows(IllegalStateException.class, () -> TenantContext.bind(UUID.randomUUID()));
+    }
+  }
+
+  @Test
+  void runWith_clearsContextWhenActionThrows() {
+    UUID tenantId = UUID.randomUUID();
+
+    assertThrows(IllegalArgumentException.class, () -> TenantContext.runWith(tenantId, () -> {
+      throw new IllegalArgumentException("boom");
+    }));
+
+    assertNull(TenantContext.getTenantIdOrNull());
+  }
+
+  @Test
+  void wrap_carriesTenantToAnotherThread() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    Callable<UUID> task = TenantContext.callWith(tenantId, () -> TenantContext.wrap(TenantContext::getTenantIdOrNull));
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      assertEquals(tenantId, executor.submit(task).get());
+      // The worker thread is left clean for the next task
+      assertNull(executor.submit(TenantContext::getTenantIdOrNull).get());
+    }
+  }
 }
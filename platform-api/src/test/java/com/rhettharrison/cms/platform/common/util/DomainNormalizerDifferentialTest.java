@@ -0,0 +1,70 @@
+package com.rhettharrison.cms.platform.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DomainNormalizerDifferentialTest {
+
+  // Mix of fast-path characters and everything that must fall back to the general path
+  private static final String[] ALPHABET = {
+      "a", "b", "Z", "0", "9", "-", ".", ".", ":", ":80", "8", " ", "\t", "/", "\\", "://", "ü", "İ",
+      "。", "xn--", "_", "@", "[", "]", "a".repeat(62)
+  };
+
+  private Locale previousLocale;
+
+  @BeforeEach
+  void pinLocale() {
+    // The legacy implementation lowercases with the default locale
+    previousLocale = Locale.getDefault();
+    Locale.setDefault(Locale.ROOT);
+  }
+
+  @AfterEach
+  void restoreLocale() {
+    Locale.setDefault(previousLocale);
+  }
+
+  @Test
+  void normalizeUncached_matchesLegacyOnRandomInputs() {
+    Random random = new Random(20260101L);
+    for (int i = 0; i < 200_000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int parts = random.nextInt(10);
+      for (int j = 0; j < parts; j++) {
+        sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+      }
+      String input = sb.toString();
+      assertEquals(LegacyDomainNormalizer.normalizeHostHeader(input), DomainNormalizer.normalizeUncached(input),
+          () -> "input: [" + input + "]");
+    }
+  }
+
+  @Test
+  void normalizeUncached_matchesLegacyOnEdgeCases() {
+    String[] inputs = {
+        "", " ", ".", ":80", "a.", "a..b", ".a", "example.com.:8080", "example.com:8080.", "example.com:",
+        "example.com:123456", "example.com:80:90", "EXAMPLE.com", " example.com ", "a".repeat(63) + ".com",
+        "a".repeat(64) + ".com", "münich.example.com", "http://example.com", "[::1]:8080"
+    };
+    for (String input : inputs) {
+      assertEquals(LegacyDomainNormalizer.normalizeHostHeader(input), DomainNormalizer.normalizeUncached(input),
+          () -> "input: [" + input + "]");
+    }
+  }
+
+  @Test
+  void normalizeHostHeader_memoizesByRawHeader() {
+    String first = DomainNormalizer.normalizeHostHeader(new String("Memo.Example.COM:8443"));
+    String second = DomainNormalizer.normalizeHostHeader(new String("Memo.Example.COM:8443"));
+
+    assertEquals("memo.example.com", first);
+    assertSame(first, second);
+  }
+}
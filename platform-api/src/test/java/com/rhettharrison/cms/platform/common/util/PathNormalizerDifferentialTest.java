@@ -0,0 +1,68 @@
+package com.rhettharrison.cms.platform.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PathNormalizerDifferentialTest {
+
+  // Biased towards the characters the normalizer treats specially
+  private static final String[] ALPHABET = {
+      "/", "/", "/", "\\", ".", ".", "..", "a", "z", "B", "Q", "0", "-", "_", "%2F", " ", "\t",
+      "É", "İ", "Σ", "ß", "K", "😀"
+  };
+
+  private Locale previousLocale;
+
+  @BeforeEach
+  void pinLocale() {
+    // The legacy implementation lowercases with the default locale
+    previousLocale = Locale.getDefault();
+    Locale.setDefault(Locale.ROOT);
+  }
+
+  @AfterEach
+  void restoreLocale() {
+    Locale.setDefault(previousLocale);
+  }
+
+  @Test
+  void normalize_matchesLegacyOnRandomInputs() {
+    Random random = new Random(20260101L);
+    for (int i = 0; i < 200_000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int parts = random.nextInt(12);
+      for (int j = 0; j < parts; j++) {
+        sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+      }
+      String input = sb.toString();
+      assertEquals(LegacyPathNormalizer.normalize(input), PathNormalizer.normalize(input), () -> "input: [" + input + "]");
+    }
+  }
+
+  @Test
+  void normalize_matchesLegacyOnEdgeCases() {
+    String[] inputs = {
+        null, "", " ", "/", "//", "\\", ".", "..", "/.", "/..", "/...", "/a/.", "/a/..", "a/./b/../c",
+        " /A/ ", "/a/b/", "/a//b", "\\a\\b\\", "/./../a", "/a/b/../../..", "/.hidden", "/a./b..",
+        "/ÉtÉ", "/aΣ", "/Σ/Σa", "/xİy", "/K"
+    };
+    for (String input : inputs) {
+      assertEquals(LegacyPathNormalizer.normalize(input), PathNormalizer.normalize(input), () -> "input: [" + input + "]");
+    }
+  }
+
+  @Test
+  void normalize_returnsSameInstanceWhenAlreadyNormalized() {
+    String path = "/blog/2026/hello-world";
+
+    assertSame(path, PathNormalizer.normalize(path));
+    String root = "/";
+    assertSame(root, PathNormalizer.normalize(root));
+  }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.hibernate.Session;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -125,4 +127,23 @@ class ScreenLifecycleAndRepositoryTest {
     assertTrue(bPub.isEmpty());
     assertTrue(bDraft.isPresent());
   }
+
+  @Test
+  void findSummariesAfter_pagesByPathWithinTenantAndAppliesFilters() {
+    enableFilterFor(tenantA);
+    screenRepository.saveAndFlush(newScreen("/a", ScreenStatus.PUBLISHED));
+    screenRepository.saveAndFlush(newScreen("/b", ScreenStatus.DRAFT));
+    screenRepository.saveAndFlush(newScreen("/c", ScreenStatus.PUBLISHED));
+    enableFilterFor(tenantB);
+    screenRepository.saveAndFlush(newScreen("/aa", ScreenStatus.PUBLISHED));
+
+    enableFilterFor(tenantA);
+    List<ScreenSummaryView> first = screenRepository.findSummariesAfter(tenantA, null, null, null, Limit.of(2));
+    List<ScreenSummaryView> second = screenRepository.findSummariesAfter(tenantA, "/b", null, null, Limit.of(2));
+    List<ScreenSummaryView> published = screenRepository.findSummariesAfter(tenantA, null, ScreenStatus.PUBLISHED, null, Limit.of(10));
+
+    assertEquals(List.of("/a", "/b"), first.stream().map(ScreenSummaryView::getPath).toList());
+    assertEquals(List.of("/c"), second.stream().map(ScreenSummaryView::getPath).toList());
+    assertEquals(List.of("/a", "/c"), published.stream().map(ScreenSummaryView::getPath).toList());
+  }
 }
@@ -1,7 +1,9 @@
 package com.rhettharrison.cms.platform.domain.testentity;
 
 import com.rhettharrison.cms.platform.common.repository.TenantAwareRepository;
+import java.util.List;
 import java.util.UUID;
 
 public interface TestTenantEntityRepository extends TenantAwareRepository<TestTenantEntity, UUID> {
+  List<TestTenantEntity> findByName(String name);
 }
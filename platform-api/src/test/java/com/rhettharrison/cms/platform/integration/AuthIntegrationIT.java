@@ -18,13 +18,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -77,10 +80,14 @@ class AuthIntegrationIT extends BaseIntegrationTest {
   void login_success_returnsToken() throws Exception {
     String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "password"));
 
-    String json = mockMvc.perform(post("/auth/login")
+    MvcResult login = mockMvc.perform(post("/auth/login")
             .header("Host", HOST)
             .contentType(MediaType.APPLICATION_JSON)
             .content(body))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String json = mockMvc.perform(asyncDispatch(login))
         .andExpect(status().isOk())
         .andReturn().getResponse().getContentAsString();
 
@@ -93,10 +100,14 @@ class AuthIntegrationIT extends BaseIntegrationTest {
   void login_invalidCredentials_returns401() throws Exception {
     String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "wrong"));
 
-    mockMvc.perform(post("/auth/login")
+    MvcResult login = mockMvc.perform(post("/auth/login")
             .header("Host", HOST)
             .contentType(MediaType.APPLICATION_JSON)
             .content(body))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(login))
         .andExpect(status().isUnauthorized());
   }
 }
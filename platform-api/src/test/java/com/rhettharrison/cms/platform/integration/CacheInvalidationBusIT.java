@@ -0,0 +1,84 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantResolutionCache;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Writes rows directly over JDBC (as another node would) and checks that the V9 triggers plus
+ * PostgresCacheInvalidationListener evict this node's cached entries.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model"
+})
+class CacheInvalidationBusIT extends BaseIntegrationTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired PublishedScreenCache publishedScreenCache;
+  @Autowired TenantResolutionCache tenantResolutionCache;
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void loadDefaultTenant() {
+    tenantId = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE slug = 'default'", UUID.class);
+  }
+
+  @AfterEach
+  void cleanup() {
+    jdbcTemplate.update("DELETE FROM screens WHERE path LIKE '/bus-%'");
+    jdbcTemplate.update("DELETE FROM tenant_domains WHERE domain LIKE 'bus-%'");
+  }
+
+  @Test
+  void screenInsertOnAnotherNode_evictsCachedNotFound() throws Exception {
+    publishedScreenCache.get(tenantId, "/bus-screen", p -> Optional.empty());
+    assertThat(publishedScreenCache.getIfPresent(tenantId, "/bus-screen")).isEmpty();
+
+    jdbcTemplate.update(
+        "INSERT INTO screens (tenant_id, path, type, content, status) VALUES (?, '/bus-screen', 'MARKDOWN', '{}'::jsonb, 'PUBLISHED')",
+        tenantId);
+
+    assertThat(awaitTrue(() -> publishedScreenCache.getIfPresent(tenantId, "/bus-screen") == null)).isTrue();
+  }
+
+  @Test
+  void domainInsertOnAnotherNode_evictsCachedNegativeLookup() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    tenantResolutionCache.resolve("bus-new.example.com", d -> { loads.incrementAndGet(); return Optional.empty(); });
+
+    jdbcTemplate.update("INSERT INTO tenant_domains (tenant_id, domain) VALUES (?, 'bus-new.example.com')", tenantId);
+
+    // Each resolve reloads only after the notification has evicted the negative entry
+    assertThat(awaitTrue(() -> {
+      tenantResolutionCache.resolve("bus-new.example.com", d -> { loads.incrementAndGet(); return Optional.of(tenantId); });
+      return loads.get() == 2;
+    })).isTrue();
+  }
+
+  private static boolean awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (condition.getAsBoolean()) {
+        return true;
+      }
+      Thread.sleep(50);
+    }
+    return false;
+  }
+}
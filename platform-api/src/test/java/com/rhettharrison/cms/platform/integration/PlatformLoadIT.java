@@ -0,0 +1,327 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * End-to-end load test: boots the application on a real port against the shared Testcontainers
+ * Postgres, seeds tenants x screens, then drives mixed traffic (public reads across many Host
+ * headers, logins, admin writes) from virtual threads using the JDK HttpClient. Reports
+ * p50/p99/p999 and throughput per endpoint to stdout and target/loadtest/.
+ *
+ * Run with: RUN_IT=true RUN_LOADTEST=true ./mvnw test -Dtest=PlatformLoadIT
+ * Tune with LOADTEST_TENANTS, LOADTEST_SCREENS, LOADTEST_CONCURRENCY, LOADTEST_WARMUP and
+ * LOADTEST_DURATION (ISO-8601, e.g. PT30S). Set LOADTEST_VIRTUAL_THREADS=true to serve requests on
+ * virtual threads; the report file is suffixed with the mode so both runs can be compared.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "RUN_LOADTEST", matches = "true")
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model",
+    "logging.level.com.rhettharrison.cms=WARN",
+    // Load is generated from one client against few accounts; measure throughput, not the login throttle
+    "app.auth.throttle.username-per-minute=1000000",
+    "app.auth.throttle.tenant-per-minute=1000000"
+})
+class PlatformLoadIT extends BaseIntegrationTest {
+
+  static {
+    // The JDK client refuses to send a custom Host header unless explicitly allowed
+    System.setProperty("jdk.httpclient.allowRestrictedHeaders", "host");
+  }
+
+  private static final String SLUG_PREFIX = "loadtest-";
+  private static final String DOMAIN_SUFFIX = ".loadtest.local";
+  private static final String PASSWORD = "password";
+  private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getenv("LOADTEST_VIRTUAL_THREADS"));
+
+  private final int tenants = intEnv("LOADTEST_TENANTS", 20);
+  private final int screensPerTenant = intEnv("LOADTEST_SCREENS", 200);
+  private final int concurrency = intEnv("LOADTEST_CONCURRENCY", 64);
+  private final Duration warmup = durationEnv("LOADTEST_WARMUP", Duration.ofSeconds(10));
+  private final Duration duration = durationEnv("LOADTEST_DURATION", Duration.ofSeconds(30));
+
+  @Value("${local.server.port}") int port;
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired PasswordEncoder passwordEncoder;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final List<String> hosts = new ArrayList<>();
+  private final Map<String, String> tokensByHost = new LinkedHashMap<>();
+  private ExecutorService executor;
+  private HttpClient client;
+
+  enum Endpoint { PUBLIC_READ, LOGIN, ADMIN_WRITE }
+
+  @DynamicPropertySource
+  static void registerThreadMode(DynamicPropertyRegistry registry) {
+    registry.add("spring.threads.virtual.enabled", () -> String.valueOf(VIRTUAL_THREADS));
+  }
+
+  @BeforeAll
+  void seed() throws Exception {
+    cleanup();
+    String passwordHash = passwordEncoder.encode(PASSWORD);
+    for (int t = 0; t < tenants; t++) {
+      String slug = SLUG_PREFIX + t;
+      String host = slug + DOMAIN_SUFFIX;
+      UUID tenantId = jdbcTemplate.queryForObject(
+          "INSERT INTO tenants (slug, name) VALUES (?, ?) RETURNING id", UUID.class, slug, "Load " + t);
+      jdbcTemplate.update("INSERT INTO tenant_domains (tenant_id, domain, is_primary) VALUES (?, ?, true)", tenantId, host);
+      jdbcTemplate.update("INSERT INTO users (tenant_id, username, password_hash, roles) VALUES (?, 'admin', ?, 'ROLE_ADMIN')",
+          tenantId, passwordHash);
+      List<Object[]> rows = new ArrayList<>(screensPerTenant);
+      for (int s = 0; s < screensPerTenant; s++) {
+        rows.add(new Object[] {tenantId, "/page-" + s, "{\"markdown\":\"# Page " + s + "\"}"});
+      }
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO screens (tenant_id, path, type, content, status, published_at) "
+              + "VALUES (?, ?, 'MARKDOWN', ?::jsonb, 'PUBLISHED', NOW())", rows);
+      hosts.add(host);
+    }
+
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    client = HttpClient.newBuilder()
+        .executor(executor)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    for (String host : hosts) {
+      HttpResponse<String> response = send(login(host));
+      assertThat(response.statusCode()).as("login for %s", host).isEqualTo(200);
+      tokensByHost.put(host, mapper.readTree(response.body()).get("token").asText());
+    }
+  }
+
+  @AfterAll
+  void cleanup() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    // Screens, domains and users cascade with the tenant
+    jdbcTemplate.update("DELETE FROM tenants WHERE slug LIKE '" + SLUG_PREFIX + "%'");
+  }
+
+  @Test
+  void mixedTraffic_reportsLatencyPercentilesPerEndpoint() throws Exception {
+    run(warmup);
+    long started = System.nanoTime();
+    List<Recorder> recorders = run(duration);
+    double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+    Map<Endpoint, Samples> merged = new EnumMap<>(Endpoint.class);
+    for (Recorder r : recorders) {
+      r.samples.forEach((endpoint, samples) -> merged.computeIfAbsent(endpoint, e -> new Samples()).addAll(samples));
+    }
+    Map<String, Object> report = report(merged, elapsedSeconds);
+    writeReport(report);
+
+    assertThat(merged.get(Endpoint.PUBLIC_READ).count()).isPositive();
+    merged.forEach((endpoint, samples) ->
+        assertThat(samples.errors).as("non-2xx responses for %s", endpoint).isZero());
+  }
+
+  /**
+   * Runs closed-loop workers (one request in flight each) on virtual threads until the deadline.
+   */
+  private List<Recorder> run(Duration length) throws Exception {
+    long deadline = System.nanoTime() + length.toNanos();
+    List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      futures.add(executor.submit(() -> {
+        Recorder recorder = new Recorder();
+        while (System.nanoTime() < deadline) {
+          Endpoint endpoint = pickEndpoint();
+          HttpRequest request = request(endpoint);
+          long start = System.nanoTime();
+          HttpResponse<String> response = send(request);
+          recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+        }
+        return recorder;
+      }));
+    }
+    List<Recorder> recorders = new ArrayList<>(concurrency);
+    for (Future<Recorder> f : futures) {
+      recorders.add(f.get());
+    }
+    return recorders;
+  }
+
+  // Read-heavy mix: 90% public reads, 5% logins, 5% admin writes
+  private static Endpoint pickEndpoint() {
+    int roll = ThreadLocalRandom.current().nextInt(100);
+    if (roll < 90) return Endpoint.PUBLIC_READ;
+    if (roll < 95) return Endpoint.LOGIN;
+    return Endpoint.ADMIN_WRITE;
+  }
+
+  private HttpRequest request(Endpoint endpoint) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String host = hosts.get(random.nextInt(hosts.size()));
+    return switch (endpoint) {
+      case PUBLIC_READ -> HttpRequest.newBuilder(uri("/api/v1/screens?path=/page-" + random.nextInt(screensPerTenant)))
+          .header("Host", host)
+          .GET()
+          .build();
+      case LOGIN -> login(host);
+      case ADMIN_WRITE -> HttpRequest.newBuilder(uri("/api/v1/admin/screens"))
+          .header("Host", host)
+          .header("Authorization", "Bearer " + tokensByHost.get(host))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(
+              "{\"path\":\"/load/" + UUID.randomUUID() + "\",\"type\":\"MARKDOWN\",\"status\":\"PUBLISHED\","
+                  + "\"content\":\"{\\\"markdown\\\":\\\"# Load\\\"}\"}"))
+          .build();
+    };
+  }
+
+  private HttpRequest login(String host) {
+    return HttpRequest.newBuilder(uri("/auth/login"))
+        .header("Host", host)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"" + PASSWORD + "\"}"))
+        .build();
+  }
+
+  private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private URI uri(String pathAndQuery) {
+    return URI.create("http://localhost:" + port + pathAndQuery);
+  }
+
+  private Map<String, Object> report(Map<Endpoint, Samples> merged, double elapsedSeconds) {
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    System.out.printf("%n%-12s %9s %7s %10s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    merged.forEach((endpoint, samples) -> {
+      long[] sorted = samples.sorted();
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("requests", sorted.length);
+      row.put("errors", samples.errors);
+      row.put("throughputPerSecond", sorted.length / elapsedSeconds);
+      row.put("p50Ms", percentileMillis(sorted, 0.50));
+      row.put("p99Ms", percentileMillis(sorted, 0.99));
+      row.put("p999Ms", percentileMillis(sorted, 0.999));
+      row.put("maxMs", sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0.0);
+      endpoints.put(endpoint.name(), row);
+      System.out.printf("%-12s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint, sorted.length, samples.errors,
+          row.get("throughputPerSecond"), row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+    });
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("virtualThreads", VIRTUAL_THREADS);
+    report.put("tenants", tenants);
+    report.put("screensPerTenant", screensPerTenant);
+    report.put("concurrency", concurrency);
+    report.put("durationSeconds", elapsedSeconds);
+    report.put("endpoints", endpoints);
+    return report;
+  }
+
+  private void writeReport(Map<String, Object> report) throws IOException {
+    Path out = Path.of("target", "loadtest", "report-" + (VIRTUAL_THREADS ? "virtual" : "platform") + ".json");
+    Files.createDirectories(out.getParent());
+    mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+    System.out.println("Load test report written to " + out.toAbsolutePath());
+  }
+
+  // Nearest-rank percentile
+  private static double percentileMillis(long[] sorted, double p) {
+    if (sorted.length == 0) return 0.0;
+    int rank = (int) Math.ceil(p * sorted.length);
+    return sorted[Math.max(0, rank - 1)] / 1e6;
+  }
+
+  private static int intEnv(String name, int defaultValue) {
+    String value = System.getenv(name);
+    return value != null && !value.isBlank() ? Integer.parseInt(value.trim()) : defaultValue;
+  }
+
+  private static Duration durationEnv(String name, Duration defaultValue) {
+    String value = System.getenv(name);
+    return value != null && !value.isBlank() ? Duration.parse(value.trim()) : defaultValue;
+  }
+
+  /**
+   * Per-worker samples, so the hot loop never contends on shared state.
+   */
+  private static final class Recorder {
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    void record(Endpoint endpoint, long nanos, int status) {
+      Samples s = samples.computeIfAbsent(endpoint, e -> new Samples());
+      s.add(nanos);
+      if (status < 200 || status >= 300) {
+        s.errors++;
+      }
+    }
+  }
+
+  /**
+   * Growable primitive array of latencies in nanoseconds.
+   */
+  private static final class Samples {
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void add(long nanos) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = nanos;
+    }
+
+    void addAll(Samples other) {
+      for (int i = 0; i < other.size; i++) {
+        add(other.values[i]);
+      }
+      errors += other.errors;
+    }
+
+    int count() {
+      return size;
+    }
+
+    long[] sorted() {
+      long[] copy = Arrays.copyOf(values, size);
+      Arrays.sort(copy);
+      return copy;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.PublishedScreenJson;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import com.rhettharrison.cms.platform.web.mapper.ScreenJsonWriter;
+import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model"
+})
+class PublishedScreenJsonQueryIT extends BaseIntegrationTest {
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired ScreenBulkRepository screenBulkRepository;
+  @Autowired ScreenRepository screenRepository;
+  @Autowired ScreenMapper screenMapper;
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void setUp() {
+    tenantId = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE slug = 'default'", UUID.class);
+  }
+
+  @AfterEach
+  void cleanup() {
+    jdbcTemplate.update("DELETE FROM screens WHERE path LIKE '/json-%'");
+  }
+
+  @Test
+  void findPublishedJson_matchesJacksonBytes_forEachPublishedAtPrecision() {
+    String[] publishedAt = {
+        "2026-03-04T05:06:07Z", "2026-03-04T05:06:07.120Z", "2026-03-04T05:06:07.000123Z",
+        "2026-03-04T05:06:07.123456Z"
+    };
+    for (int i = 0; i < publishedAt.length; i++) {
+      String path = "/json-time-" + i;
+      insert(path, "PUBLISHED", "{}", Instant.parse(publishedAt[i]), null, null);
+
+      assertThat(sqlJson(path)).isEqualTo(jacksonJson(path)).contains("\"publishedAt\":\"" + publishedAt[i] + "\"");
+    }
+  }
+
+  @Test
+  void findPublishedJson_matchesJacksonBytes_forEscapedContentAndRedirect() {
+    String content = "{\"markdown\": \"# Héllo \\\"quoted\\\" \\\\ back\\nslash 日本 😀 </script>\"}";
+    insert("/json-escape", "PUBLISHED", content, Instant.parse("2026-01-01T00:00:00.5Z"),
+        "https://example.com/a?b=\"c\"&d=é", 301);
+
+    assertThat(sqlJson("/json-escape")).isEqualTo(jacksonJson("/json-escape"));
+  }
+
+  @Test
+  void findPublishedJson_writesNulls_likeJackson() {
+    insert("/json-nulls", "PUBLISHED", "[]", null, null, null);
+
+    String json = sqlJson("/json-nulls");
+
+    assertThat(json).isEqualTo(jacksonJson("/json-nulls"))
+        .endsWith("\"publishedAt\":null,\"redirectTargetUrl\":null,\"redirectStatus\":null}");
+  }
+
+  @Test
+  void findPublishedJson_carriesVersionColumns() {
+    UUID id = insert("/json-version", "PUBLISHED", "{}", Instant.parse("2026-01-01T00:00:00Z"), null, null);
+
+    PublishedScreenJson json = screenBulkRepository.findPublishedJson(tenantId, "/json-version").orElseThrow();
+
+    assertThat(json.id()).isEqualTo(id);
+    assertThat(json.updatedAt()).isEqualTo(
+        TenantContext.callWith(tenantId, () -> screenRepository.findById(id).orElseThrow().getUpdatedAt()));
+  }
+
+  @Test
+  void findPublishedJson_ignoresDraftsAndOtherTenants() {
+    insert("/json-draft", "DRAFT", "{}", null, null, null);
+    insert("/json-other", "PUBLISHED", "{}", null, null, null);
+
+    assertThat(screenBulkRepository.findPublishedJson(tenantId, "/json-draft")).isEmpty();
+    assertThat(screenBulkRepository.findPublishedJson(UUID.randomUUID(), "/json-other")).isEmpty();
+  }
+
+  private String sqlJson(String path) {
+    return new String(screenBulkRepository.findPublishedJson(tenantId, path).orElseThrow().body(),
+        StandardCharsets.UTF_8);
+  }
+
+  private String jacksonJson(String path) {
+    return TenantContext.callWith(tenantId, () -> new String(ScreenJsonWriter.toJsonBytes(screenMapper.toDto(
+        screenRepository.findByPathAndStatus(path, ScreenStatus.PUBLISHED).orElseThrow())), StandardCharsets.UTF_8));
+  }
+
+  private UUID insert(String path, String status, String content, Instant publishedAt, String redirectTargetUrl,
+      Integer redirectStatus) {
+    return jdbcTemplate.queryForObject("""
+        INSERT INTO screens (tenant_id, path, type, content, status, published_at, redirect_target_url, redirect_status)
+        VALUES (?, ?, 'MARKDOWN', ?::jsonb, ?, ?, ?, ?)
+        RETURNING id
+        """, UUID.class, tenantId, path, content, status,
+        publishedAt != null ? Timestamp.from(publishedAt) : null, redirectTargetUrl, redirectStatus);
+  }
+}
@@ -0,0 +1,112 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.common.datasource.ReplicaReads;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.user.UserRepository;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Routes against two Postgres containers. The "replica" is a separate server with the same schema
+ * rather than a streaming standby, seeded with different content so each read shows which server
+ * answered it.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model"
+})
+class ReadReplicaRoutingIT extends BaseIntegrationTest {
+
+  private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16")
+      .withDatabaseName("platform_replica")
+      .withUsername("platform")
+      .withPassword("platform");
+
+  static {
+    REPLICA.start();
+    Flyway.configure()
+        .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+        .load()
+        .migrate();
+  }
+
+  @DynamicPropertySource
+  static void registerReplica(DynamicPropertyRegistry registry) {
+    registry.add("app.read-replicas.enabled", () -> "true");
+    registry.add("app.read-replicas.urls", REPLICA::getJdbcUrl);
+    registry.add("app.read-replicas.username", REPLICA::getUsername);
+    registry.add("app.read-replicas.password", REPLICA::getPassword);
+    registry.add("app.read-replicas.lag-check-interval", () -> "PT0.2S");
+  }
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired ScreenRepository screenRepository;
+  @Autowired UserRepository userRepository;
+  @Autowired TransactionTemplate transactionTemplate;
+
+  private final JdbcTemplate replicaJdbc = new JdbcTemplate(
+      new DriverManagerDataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()));
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void seed() {
+    // A fresh tenant per test so read-your-writes pins from one test never leak into another
+    tenantId = UUID.randomUUID();
+    seed(jdbcTemplate, "primary");
+    seed(replicaJdbc, "replica");
+    jdbcTemplate.update("INSERT INTO users (tenant_id, username, password_hash, roles) VALUES (?, 'editor', 'x', 'ROLE_ADMIN')",
+        tenantId);
+  }
+
+  @Test
+  void replicaScopedRead_isServedByReplica() {
+    String content = TenantContext.callWith(tenantId, () -> ReplicaReads.call(() ->
+        screenRepository.findByPathAndStatus("/where", ScreenStatus.PUBLISHED).map(Screen::getContent).orElseThrow()));
+
+    assertThat(content).contains("replica");
+  }
+
+  @Test
+  void unscopedReads_stayOnPrimary() {
+    String content = TenantContext.callWith(tenantId, () ->
+        screenRepository.findByPathAndStatus("/where", ScreenStatus.PUBLISHED).map(Screen::getContent).orElseThrow());
+
+    assertThat(content).contains("primary");
+    // The user only exists on the primary, as a login lookup must see it
+    assertThat(TenantContext.callWith(tenantId, () -> userRepository.findByUsernameIgnoreCase("editor"))).isPresent();
+  }
+
+  @Test
+  void afterWrite_tenantReadsItsOwnWritesFromPrimary() {
+    TenantContext.runWith(tenantId, () -> transactionTemplate.executeWithoutResult(status ->
+        jdbcTemplate.update("UPDATE screens SET updated_at = now() WHERE tenant_id = ? AND path = '/where'", tenantId)));
+
+    String content = TenantContext.callWith(tenantId, () -> ReplicaReads.call(() ->
+        screenRepository.findByPathAndStatus("/where", ScreenStatus.PUBLISHED).map(Screen::getContent).orElseThrow()));
+
+    assertThat(content).contains("primary");
+  }
+
+  private void seed(JdbcTemplate jdbc, String marker) {
+    jdbc.update("INSERT INTO tenants (id, slug, name) VALUES (?, ?, ?)", tenantId, "rr-" + tenantId, "Replica routing");
+    jdbc.update("INSERT INTO screens (tenant_id, path, type, content, status, published_at) "
+            + "VALUES (?, '/where', 'MARKDOWN', ?::jsonb, 'PUBLISHED', now())",
+        tenantId, "{\"db\":\"" + marker + "\"}");
+  }
+}
@@ -0,0 +1,81 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model"
+})
+class ScreenSubtreeQueryIT extends BaseIntegrationTest {
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired ScreenBulkRepository screenBulkRepository;
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void seed() {
+    tenantId = jdbcTemplate.queryForObject("SELECT id FROM tenants WHERE slug = 'default'", UUID.class);
+    for (String path : List.of("/tree", "/tree/b", "/tree/a", "/tree/a/deep", "/treehouse", "/tree0")) {
+      insert(path, "PUBLISHED");
+    }
+    insert("/tree/draft", "DRAFT");
+  }
+
+  @AfterEach
+  void cleanup() {
+    jdbcTemplate.update("DELETE FROM screens WHERE path LIKE '/tree%'");
+  }
+
+  @Test
+  void forEachPublishedInSubtree_returnsRootAndDescendantsInPathOrder() {
+    List<String> paths = new ArrayList<>();
+    screenBulkRepository.forEachPublishedInSubtree(tenantId, "/tree", s -> paths.add(s.getPath()));
+
+    assertThat(paths).containsExactly("/tree", "/tree/a", "/tree/a/deep", "/tree/b");
+  }
+
+  @Test
+  void forEachPublishedInSubtree_usesPrefixIndex() {
+    // A tiny table favours a seq scan, so disable it on one connection and check the index is usable
+    String plan = jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+      try (Statement st = con.createStatement()) {
+        st.execute("SET enable_seqscan = off");
+        StringBuilder sb = new StringBuilder();
+        try (ResultSet rs = st.executeQuery(
+            "EXPLAIN SELECT id FROM screens WHERE tenant_id = '" + tenantId + "' AND status = 'PUBLISHED' "
+                + "AND lower(path) COLLATE \"C\" >= '/tree/' AND lower(path) COLLATE \"C\" < '/tree0' "
+                + "ORDER BY lower(path) COLLATE \"C\"")) {
+          while (rs.next()) {
+            sb.append(rs.getString(1)).append('\n');
+          }
+        } finally {
+          st.execute("RESET enable_seqscan");
+        }
+        return sb.toString();
+      }
+    });
+
+    assertThat(plan).contains("idx_screens_published_path_prefix");
+  }
+
+  private void insert(String path, String status) {
+    jdbcTemplate.update(
+        "INSERT INTO screens (tenant_id, path, type, content, status) VALUES (?, ?, 'MARKDOWN', '{}'::jsonb, ?)",
+        tenantId, path, status);
+  }
+}
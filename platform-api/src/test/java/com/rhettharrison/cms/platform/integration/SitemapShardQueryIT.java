@@ -0,0 +1,68 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model"
+})
+class SitemapShardQueryIT extends BaseIntegrationTest {
+
+  @Autowired JdbcTemplate jdbcTemplate;
+  @Autowired ScreenBulkRepository screenBulkRepository;
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void seed() {
+    // A fresh tenant so the default tenant's screens do not shift the shards
+    tenantId = jdbcTemplate.queryForObject(
+        "INSERT INTO tenants (slug, name) VALUES ('sitemap-shards', 'Sitemap shards') RETURNING id", UUID.class);
+    for (String path : List.of("/a", "/B", "/c", "/d", "/E")) {
+      insert(path, "MARKDOWN", "PUBLISHED");
+    }
+    insert("/b-old", "REDIRECT", "PUBLISHED");
+    insert("/c-draft", "MARKDOWN", "DRAFT");
+  }
+
+  @AfterEach
+  void cleanup() {
+    jdbcTemplate.update("DELETE FROM screens WHERE tenant_id = ?", tenantId);
+    jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+  }
+
+  @Test
+  void shardStarts_markTheLastKeyOfEachFullShard() {
+    assertThat(screenBulkRepository.publishedIndexableShardStarts(tenantId, 2)).containsExactly("", "/b", "/d");
+    assertThat(screenBulkRepository.publishedIndexableShardStarts(tenantId, 5)).containsExactly("");
+  }
+
+  @Test
+  void forEachPublishedIndexable_seeksPastTheStartKey() {
+    List<String> shards = new ArrayList<>();
+    for (String start : screenBulkRepository.publishedIndexableShardStarts(tenantId, 2)) {
+      List<String> paths = new ArrayList<>();
+      screenBulkRepository.forEachPublishedIndexable(tenantId, start, 2, s -> paths.add(s.getPath()));
+      shards.add(String.join(",", paths));
+    }
+
+    assertThat(shards).containsExactly("/a,/B", "/c,/d", "/E");
+  }
+
+  private void insert(String path, String type, String status) {
+    jdbcTemplate.update(
+        "INSERT INTO screens (tenant_id, path, type, content, status) VALUES (?, ?, ?, '{}'::jsonb, ?)",
+        tenantId, path, type, status);
+  }
+}
@@ -0,0 +1,143 @@
+package com.rhettharrison.cms.platform.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rhettharrison.cms.platform.common.datasource.TenantShardMover;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.domain.model.user.UserRepository;
+import com.rhettharrison.cms.platform.testsupport.BaseIntegrationTest;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Main database from BaseIntegrationTest plus two shard containers; tenants start on main and are
+ * moved between shards with TenantShardMover while repositories keep finding their rows.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.packages-to-scan=com.rhettharrison.cms.platform.domain.model",
+    "app.shards.enabled=true",
+    "app.shards.ids=shard-a,shard-b",
+    "app.shards.move.freeze-grace=PT0.1S"
+})
+class TenantShardingIT extends BaseIntegrationTest {
+
+  private static final PostgreSQLContainer<?> SHARD_A = shardContainer("platform_shard_a");
+  private static final PostgreSQLContainer<?> SHARD_B = shardContainer("platform_shard_b");
+
+  static {
+    SHARD_A.start();
+    SHARD_B.start();
+  }
+
+  @DynamicPropertySource
+  static void registerShards(DynamicPropertyRegistry registry) {
+    registry.add("app.shards.shard-a.url", SHARD_A::getJdbcUrl);
+    registry.add("app.shards.shard-b.url", SHARD_B::getJdbcUrl);
+  }
+
+  @Autowired @Qualifier("mainShardDataSource") DataSource mainDataSource;
+  @Autowired TenantShardMover tenantShardMover;
+  @Autowired ScreenRepository screenRepository;
+  @Autowired UserRepository userRepository;
+
+  private JdbcTemplate mainJdbc;
+  private final JdbcTemplate shardAJdbc = jdbc(SHARD_A);
+  private final JdbcTemplate shardBJdbc = jdbc(SHARD_B);
+
+  private UUID tenantId;
+
+  @BeforeEach
+  void seed() {
+    mainJdbc = new JdbcTemplate(mainDataSource);
+    tenantId = mainJdbc.queryForObject("INSERT INTO tenants (slug, name) VALUES (?, 'Sharded') RETURNING id",
+        UUID.class, "sharded-" + UUID.randomUUID());
+    mainJdbc.update("INSERT INTO screens (tenant_id, path, type, content, status, published_at) "
+        + "VALUES (?, '/hello', 'MARKDOWN', '{}'::jsonb, 'PUBLISHED', now())", tenantId);
+    mainJdbc.update("INSERT INTO users (tenant_id, username, password_hash, roles) VALUES (?, 'editor', 'x', 'ROLE_ADMIN')",
+        tenantId);
+  }
+
+  @Test
+  void unassignedTenant_isServedFromMain() {
+    assertThat(findHello()).isPresent();
+  }
+
+  @Test
+  void move_copiesRowsFlipsMapAndCleansSource() {
+    TenantShardMover.MoveResult result = tenantShardMover.move(tenantId, "shard-a");
+
+    assertThat(result.fromShard()).isEqualTo("main");
+    assertThat(result.rowsCopied()).containsEntry("screens", 1).containsEntry("users", 1);
+    assertThat(count(shardAJdbc, "screens")).isEqualTo(1);
+    assertThat(count(mainJdbc, "screens")).isZero();
+    assertThat(count(mainJdbc, "users")).isZero();
+    // The directory row stays in main
+    assertThat(mainJdbc.queryForObject("SELECT count(*) FROM tenants WHERE id = ?", Integer.class, tenantId)).isEqualTo(1);
+
+    assertThat(findHello()).isPresent();
+    assertThat(TenantContext.callWith(tenantId, () -> userRepository.findByUsernameIgnoreCase("editor"))).isPresent();
+  }
+
+  @Test
+  void move_betweenShards_keepsTenantReadable() {
+    tenantShardMover.move(tenantId, "shard-a");
+    tenantShardMover.move(tenantId, "shard-b");
+
+    assertThat(count(shardAJdbc, "screens")).isZero();
+    assertThat(shardAJdbc.queryForObject("SELECT count(*) FROM tenants WHERE id = ?", Integer.class, tenantId)).isZero();
+    assertThat(count(shardBJdbc, "screens")).isEqualTo(1);
+    assertThat(findHello()).isPresent();
+  }
+
+  @Test
+  void writes_afterMove_landOnTheNewShard() {
+    tenantShardMover.move(tenantId, "shard-b");
+
+    TenantContext.runWith(tenantId, () -> {
+      Screen screen = new Screen();
+      screen.setPath("/new");
+      screen.setType(ScreenType.MARKDOWN);
+      screen.setContent("{}");
+      screen.setStatus(ScreenStatus.DRAFT);
+      screenRepository.save(screen);
+    });
+
+    assertThat(count(shardBJdbc, "screens")).isEqualTo(2);
+    assertThat(count(mainJdbc, "screens")).isZero();
+  }
+
+  private Optional<Screen> findHello() {
+    return TenantContext.callWith(tenantId, () -> screenRepository.findByPathAndStatus("/hello", ScreenStatus.PUBLISHED));
+  }
+
+  private int count(JdbcTemplate jdbc, String table) {
+    return jdbc.queryForObject("SELECT count(*) FROM " + table + " WHERE tenant_id = ?", Integer.class, tenantId);
+  }
+
+  private static JdbcTemplate jdbc(PostgreSQLContainer<?> container) {
+    return new JdbcTemplate(new DriverManagerDataSource(
+        container.getJdbcUrl(), container.getUsername(), container.getPassword()));
+  }
+
+  private static PostgreSQLContainer<?> shardContainer(String database) {
+    return new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName(database)
+        .withUsername("platform")
+        .withPassword("platform");
+  }
+}
@@ -13,6 +13,8 @@ import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,7 +36,9 @@ class JwtAuthenticationFilterTest {
   @BeforeEach
   void setup() {
     jwtService = Mockito.mock(JwtService.class);
-    filter = new JwtAuthenticationFilter(jwtService);
+    when(jwtService.keyFingerprint()).thenReturn(new byte[8]);
+    filter = new JwtAuthenticationFilter(
+        new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), 100, Duration.ofMinutes(15)));
     request = Mockito.mock(HttpServletRequest.class);
     response = Mockito.mock(HttpServletResponse.class);
     chain = Mockito.mock(FilterChain.class);
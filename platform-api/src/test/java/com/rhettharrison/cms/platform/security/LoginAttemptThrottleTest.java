@@ -0,0 +1,61 @@
+package com.rhettharrison.cms.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptThrottleTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final LoginAttemptThrottle throttle = new LoginAttemptThrottle(meterRegistry, 3, 5, 1000, clock::get);
+
+  private final UUID tenantA = UUID.randomUUID();
+  private final UUID tenantB = UUID.randomUUID();
+
+  @Test
+  void username_exhausted_throttlesWithRetryAfter() {
+    for (int i = 0; i < 3; i++) {
+      throttle.acquire(tenantA, "admin");
+    }
+
+    LoginThrottledException ex = assertThrows(LoginThrottledException.class, () -> throttle.acquire(tenantA, "Admin"));
+    // 3 per minute -> one token every 20s
+    assertEquals(Duration.ofSeconds(20), ex.getRetryAfter());
+    assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "scope", "username").count());
+  }
+
+  @Test
+  void username_refillsOverTime() {
+    for (int i = 0; i < 3; i++) {
+      throttle.acquire(tenantA, "admin");
+    }
+    clock.addAndGet(Duration.ofSeconds(20).toNanos());
+
+    assertDoesNotThrow(() -> throttle.acquire(tenantA, "admin"));
+    assertThrows(LoginThrottledException.class, () -> throttle.acquire(tenantA, "admin"));
+  }
+
+  @Test
+  void tenant_capsAttemptsAcrossUsernames() {
+    for (int i = 0; i < 5; i++) {
+      throttle.acquire(tenantA, "user" + i);
+    }
+
+    assertThrows(LoginThrottledException.class, () -> throttle.acquire(tenantA, "another"));
+    assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "scope", "tenant").count());
+  }
+
+  @Test
+  void buckets_areIsolatedPerTenant() {
+    for (int i = 0; i < 3; i++) {
+      throttle.acquire(tenantA, "admin");
+    }
+
+    assertDoesNotThrow(() -> throttle.acquire(tenantB, "admin"));
+  }
+}
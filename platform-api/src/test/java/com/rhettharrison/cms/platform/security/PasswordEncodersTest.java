@@ -0,0 +1,118 @@
+package com.rhettharrison.cms.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+class PasswordEncodersTest {
+
+  // Low costs keep the test fast; production defaults live in application.properties
+  private static final PasswordEncoders.Settings BCRYPT_4 =
+      new PasswordEncoders.Settings(PasswordEncoders.BCRYPT, 4, 1000, 1024, 1, 1);
+
+  @Test
+  void legacyUnprefixedBcrypt_matchesAndNeedsUpgrade() {
+    PasswordEncoder encoder = PasswordEncoders.delegating(BCRYPT_4);
+    String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+    assertTrue(encoder.matches("secret", legacy));
+    assertFalse(encoder.matches("wrong", legacy));
+    assertTrue(encoder.upgradeEncoding(legacy));
+  }
+
+  @Test
+  void newHash_isPrefixedAndCurrent() {
+    PasswordEncoder encoder = PasswordEncoders.delegating(BCRYPT_4);
+    String hash = encoder.encode("secret");
+
+    assertTrue(hash.startsWith("{bcrypt}$2a$04$"));
+    assertTrue(encoder.matches("secret", hash));
+    assertFalse(encoder.upgradeEncoding(hash));
+  }
+
+  @Test
+  void weakerBcrypt_needsUpgradeAfterStrengthIncrease() {
+    String hash = PasswordEncoders.delegating(BCRYPT_4).encode("secret");
+    PasswordEncoder stronger = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.BCRYPT, 5, 1000, 1024, 1, 1));
+
+    assertTrue(stronger.matches("secret", hash));
+    assertTrue(stronger.upgradeEncoding(hash));
+  }
+
+  @Test
+  void switchingAlgorithm_keepsOldHashesValidAndUpgradesThem() {
+    String bcryptHash = PasswordEncoders.delegating(BCRYPT_4).encode("secret");
+    PasswordEncoder argon2 = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.ARGON2, 4, 1000, 1024, 1, 1));
+
+    assertTrue(argon2.matches("secret", bcryptHash));
+    assertTrue(argon2.upgradeEncoding(bcryptHash));
+
+    String argon2Hash = argon2.encode("secret");
+    assertTrue(argon2Hash.startsWith("{argon2}"));
+    assertTrue(argon2.matches("secret", argon2Hash));
+    assertFalse(argon2.upgradeEncoding(argon2Hash));
+  }
+
+  @Test
+  void pbkdf2_roundTrips() {
+    PasswordEncoder encoder = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.PBKDF2, 4, 1000, 1024, 1, 1));
+    String hash = encoder.encode("secret");
+
+    assertTrue(hash.startsWith("{pbkdf2}"));
+    assertTrue(encoder.matches("secret", hash));
+  }
+
+  @Test
+  void pbkdf2_storesIterationsAndUpgradesAfterIncrease() {
+    String hash = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.PBKDF2, 4, 1000, 1024, 1, 1)).encode("secret");
+    PasswordEncoder stronger = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.PBKDF2, 4, 2000, 1024, 1, 1));
+
+    assertTrue(hash.startsWith("{pbkdf2}1000$"));
+    assertTrue(stronger.matches("secret", hash));
+    assertFalse(stronger.matches("wrong", hash));
+    assertTrue(stronger.upgradeEncoding(hash));
+    assertFalse(stronger.upgradeEncoding(stronger.encode("secret")));
+  }
+
+  @Test
+  void pbkdf2_untaggedHash_matchesAtConfiguredCountAndNeedsUpgrade() {
+    String untagged = "{pbkdf2}" + new Pbkdf2PasswordEncoder("", 16, 1000,
+        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode("secret");
+    PasswordEncoder encoder = PasswordEncoders.delegating(
+        new PasswordEncoders.Settings(PasswordEncoders.PBKDF2, 4, 1000, 1024, 1, 1));
+
+    assertTrue(encoder.matches("secret", untagged));
+    assertTrue(encoder.upgradeEncoding(untagged));
+  }
+
+  @Test
+  void unknownAlgorithm_isRejected() {
+    assertThrows(IllegalArgumentException.class, () -> PasswordEncoders.delegating(
+        new PasswordEncoders.Settings("md5", 4, 1000, 1024, 1, 1)));
+  }
+
+  @Test
+  void calibrate_neverGoesBelowMinimumStrength() {
+    PasswordEncoders.Settings calibrated = PasswordEncoders.calibrate(BCRYPT_4, Duration.ofNanos(1));
+
+    assertEquals(PasswordEncoders.MIN_BCRYPT_STRENGTH, calibrated.bcryptStrength());
+  }
+
+  @Test
+  void calibrate_raisesStrengthTowardTarget() {
+    // Strength 10 takes tens of milliseconds, so a 5 s target leaves room for several doublings
+    PasswordEncoders.Settings calibrated = PasswordEncoders.calibrate(
+        new PasswordEncoders.Settings(PasswordEncoders.BCRYPT, 10, 1000, 1024, 1, 1), Duration.ofSeconds(5));
+
+    assertTrue(calibrated.bcryptStrength() > 10);
+  }
+}
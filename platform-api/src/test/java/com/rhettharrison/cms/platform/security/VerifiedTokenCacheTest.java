@@ -0,0 +1,76 @@
+package com.rhettharrison.cms.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class VerifiedTokenCacheTest {
+
+  private static final String SECRET = "test-secret-test-secret-test-secret";
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @Test
+  void verify_repeatedToken_verifiesOnce() {
+    JwtService jwtService = spy(new JwtService(SECRET, "platform-api", 3600));
+    VerifiedTokenCache cache = newCache(jwtService);
+    String token = jwtService.issueToken(tenantId, "admin", List.of("ROLE_ADMIN"));
+
+    VerifiedToken first = cache.verify(token);
+    VerifiedToken second = cache.verify(token);
+
+    assertSame(first, second);
+    assertEquals(tenantId, first.tenantId());
+    assertEquals("admin", first.subject());
+    assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), first.authorities());
+    assertNotNull(first.expiresAt());
+    verify(jwtService, times(1)).verify(token);
+  }
+
+  @Test
+  void verify_invalidToken_isRejectedEveryTime() {
+    JwtService jwtService = spy(new JwtService(SECRET, "platform-api", 3600));
+    VerifiedTokenCache cache = newCache(jwtService);
+    String token = jwtService.issueToken(tenantId, "admin", List.of()) + "x";
+
+    assertThrows(JWTVerificationException.class, () -> cache.verify(token));
+    assertThrows(JWTVerificationException.class, () -> cache.verify(token));
+    verify(jwtService, times(2)).verify(anyString());
+  }
+
+  @Test
+  void verify_expiredToken_isNotServedFromCache() {
+    JwtService jwtService = new JwtService(SECRET, "platform-api", -1);
+    VerifiedTokenCache cache = newCache(jwtService);
+    String token = jwtService.issueToken(tenantId, "admin", List.of());
+
+    assertThrows(JWTVerificationException.class, () -> cache.verify(token));
+  }
+
+  @Test
+  void invalidateAll_forcesReverification() {
+    JwtService jwtService = spy(new JwtService(SECRET, "platform-api", 3600));
+    VerifiedTokenCache cache = newCache(jwtService);
+    String token = jwtService.issueToken(tenantId, "admin", List.of());
+
+    cache.verify(token);
+    cache.invalidateAll();
+    cache.verify(token);
+
+    verify(jwtService, times(2)).verify(token);
+  }
+
+  private static VerifiedTokenCache newCache(JwtService jwtService) {
+    return new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), 100, Duration.ofMinutes(15));
+  }
+}
@@ -0,0 +1,99 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PublishedScreenCacheTest {
+
+  private final PublishedScreenCache cache =
+      new PublishedScreenCache(16, 1024 * 1024, Duration.ofHours(1), Duration.ofSeconds(30));
+
+  private final UUID tenantA = UUID.randomUUID();
+  private final UUID tenantB = UUID.randomUUID();
+
+  @Test
+  void get_loadsOncePerTenantAndPath() {
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get(tenantA, "/about", p -> { loads.incrementAndGet(); return Optional.of(body(p)); });
+    cache.get(tenantA, "/about", p -> { loads.incrementAndGet(); return Optional.of(body(p)); });
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void get_cachesNotFoundAsNegativeEntry() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertTrue(cache.get(tenantA, "/missing", p -> { loads.incrementAndGet(); return Optional.empty(); }).isEmpty());
+    assertTrue(cache.get(tenantA, "/missing", p -> { loads.incrementAndGet(); return Optional.empty(); }).isEmpty());
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void get_isolatesTenantsWithSamePath() {
+    cache.get(tenantA, "/about", p -> Optional.of(body("/about")));
+
+    Optional<ScreenResponseBody> b = cache.get(tenantB, "/about", p -> Optional.empty());
+
+    assertTrue(b.isEmpty());
+  }
+
+  @Test
+  void invalidate_forcesReload() {
+    AtomicInteger loads = new AtomicInteger();
+    cache.get(tenantA, "/about", p -> { loads.incrementAndGet(); return Optional.empty(); });
+
+    cache.invalidate(tenantA, "/about");
+    Optional<ScreenResponseBody> reloaded = cache.get(tenantA, "/about", p -> { loads.incrementAndGet(); return Optional.of(body(p)); });
+
+    assertEquals(2, loads.get());
+    assertTrue(reloaded.isPresent());
+  }
+
+  @Test
+  void getIfPresent_returnsNullWhenNotCached() {
+    assertNull(cache.getIfPresent(tenantA, "/about"));
+
+    cache.get(tenantA, "/about", p -> Optional.empty());
+
+    assertEquals(Optional.empty(), cache.getIfPresent(tenantA, "/about"));
+  }
+
+  @Test
+  void onCacheInvalidation_screenEventEvictsOnlyListedPaths() {
+    cache.get(tenantA, "/about", p -> Optional.of(body(p)));
+    cache.get(tenantA, "/blog", p -> Optional.of(body(p)));
+
+    cache.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.SCREEN, tenantA, List.of("/about")));
+
+    assertNull(cache.getIfPresent(tenantA, "/about"));
+    assertNotNull(cache.getIfPresent(tenantA, "/blog"));
+  }
+
+  @Test
+  void onCacheInvalidation_tenantEventEvictsWholeTenant() {
+    cache.get(tenantA, "/about", p -> Optional.of(body(p)));
+    cache.get(tenantB, "/about", p -> Optional.of(body(p)));
+
+    cache.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.TENANT, tenantA, List.of()));
+
+    assertNull(cache.getIfPresent(tenantA, "/about"));
+    assertNotNull(cache.getIfPresent(tenantB, "/about"));
+  }
+
+  private ScreenResponseBody body(String path) {
+    return ScreenResponseBody.of(("{\"path\":\"" + path + "\"}").getBytes(StandardCharsets.UTF_8),
+        UUID.randomUUID(), Instant.now());
+  }
+}
@@ -0,0 +1,112 @@
+package com.rhettharrison.cms.platform.web.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rhettharrison.cms.platform.common.cache.CacheInvalidationEvent;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RedirectTableTest {
+
+  private final ScreenBulkRepository screenBulkRepository = mock(ScreenBulkRepository.class);
+  private final RedirectTable table = new RedirectTable(screenBulkRepository, 16);
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() {
+    doAnswer(inv -> {
+      Consumer<Screen> consumer = inv.getArgument(1);
+      consumer.accept(redirect("/old", "/new", 301));
+      consumer.accept(redirect("/broken", null, 301));
+      return null;
+    }).when(screenBulkRepository).forEachPublishedRedirect(eq(tenantId), any());
+  }
+
+  @Test
+  void lookup_compilesOncePerTenant() {
+    assertEquals(Optional.of(new RedirectTable.Redirect("/new", 301)), table.lookup(tenantId, "/old"));
+    assertTrue(table.lookup(tenantId, "/missing").isEmpty());
+
+    verify(screenBulkRepository, times(1)).forEachPublishedRedirect(eq(tenantId), any());
+  }
+
+  @Test
+  void lookup_skipsRowsThatCannotBeServed() {
+    assertTrue(table.lookup(tenantId, "/broken").isEmpty());
+  }
+
+  @Test
+  void refresh_patchesChangedPathsWithoutRecompiling() {
+    table.lookup(tenantId, "/old");
+    when(screenBulkRepository.findPublishedRedirect(tenantId, "/old")).thenReturn(Optional.empty());
+    when(screenBulkRepository.findPublishedRedirect(tenantId, "/promo")).thenReturn(Optional.of(redirect("/promo", "https://example.com", 302)));
+
+    table.refresh(tenantId, List.of("/old", "/promo"));
+
+    assertTrue(table.lookup(tenantId, "/old").isEmpty());
+    assertEquals(302, table.lookup(tenantId, "/promo").orElseThrow().status());
+    verify(screenBulkRepository, times(1)).forEachPublishedRedirect(eq(tenantId), any());
+  }
+
+  @Test
+  void refresh_ignoresTenantsNotYetCompiled() {
+    table.refresh(tenantId, List.of("/old"));
+
+    verify(screenBulkRepository, never()).findPublishedRedirect(any(), any());
+  }
+
+  @Test
+  void onCacheInvalidation_tenantEventForcesRecompile() {
+    table.lookup(tenantId, "/old");
+
+    table.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.TENANT, tenantId, List.of()));
+    table.lookup(tenantId, "/old");
+
+    verify(screenBulkRepository, times(2)).forEachPublishedRedirect(eq(tenantId), any());
+  }
+
+  @Test
+  void onCacheInvalidation_screenEventRefreshesUnderTheEventTenant() {
+    table.lookup(tenantId, "/old");
+    List<UUID> boundTenants = new ArrayList<>();
+    when(screenBulkRepository.findPublishedRedirect(tenantId, "/old")).thenAnswer(inv -> {
+      boundTenants.add(TenantContext.getTenantIdOrNull());
+      return Optional.of(redirect("/old", "/newer", 301));
+    });
+
+    table.onCacheInvalidation(new CacheInvalidationEvent(CacheInvalidationEvent.Scope.SCREEN, tenantId, List.of("/old")));
+
+    assertEquals(List.of(tenantId), boundTenants);
+    assertEquals("/newer", table.lookup(tenantId, "/old").orElseThrow().targetUrl());
+    assertNull(TenantContext.getTenantIdOrNull());
+  }
+
+  private static Screen redirect(String path, String target, int status) {
+    Screen s = new Screen();
+    s.setPath(path);
+    s.setType(ScreenType.REDIRECT);
+    s.setStatus(ScreenStatus.PUBLISHED);
+    s.setRedirectTargetUrl(target);
+    s.setRedirectStatus(status);
+    return s;
+  }
+}
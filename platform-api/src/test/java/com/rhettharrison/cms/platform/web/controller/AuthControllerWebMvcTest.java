@@ -1,10 +1,17 @@
 package com.rhettharrison.cms.platform.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhettharrison.cms.platform.common.tenant.TenantAwareExecutor;
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import com.rhettharrison.cms.platform.domain.model.user.User;
 import com.rhettharrison.cms.platform.domain.model.user.UserRepository;
 import com.rhettharrison.cms.platform.security.JwtService;
+import com.rhettharrison.cms.platform.security.LoginAttemptThrottle;
+import com.rhettharrison.cms.platform.security.LoginThrottledException;
+import com.rhettharrison.cms.platform.security.PasswordHashingBusyException;
+import com.rhettharrison.cms.platform.security.PasswordHashingExecutor;
+import com.rhettharrison.cms.platform.web.error.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,17 +19,27 @@ import org.mockito.Mockito;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class AuthControllerWebMvcTest {
@@ -33,19 +50,42 @@ class AuthControllerWebMvcTest {
   private final UserRepository userRepository = Mockito.mock(UserRepository.class);
   private final PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
   private final JwtService jwtService = Mockito.mock(JwtService.class);
+  private final LoginAttemptThrottle loginAttemptThrottle = Mockito.mock(LoginAttemptThrottle.class);
+  private final TenantAwareExecutor tenantTaskExecutor = Mockito.mock(TenantAwareExecutor.class);
+  private PasswordHashingExecutor passwordHashingExecutor;
 
   private final UUID tenantId = UUID.randomUUID();
 
   @BeforeEach
   void setup() {
     TenantContext.setTenantId(tenantId);
-    AuthController controller = new AuthController(userRepository, passwordEncoder, jwtService);
-    this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    passwordHashingExecutor = new PasswordHashingExecutor(
+        passwordEncoder, new SimpleMeterRegistry(), 1, 4, Duration.ofSeconds(1));
+    setupController(passwordHashingExecutor);
+  }
+
+  private void setupController(PasswordHashingExecutor executor) {
+    AuthController controller = new AuthController(
+        userRepository, executor, loginAttemptThrottle, jwtService, tenantTaskExecutor);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
   }
 
   @AfterEach
   void clear() {
     TenantContext.clear();
+    passwordHashingExecutor.destroy();
+  }
+
+  private MvcResult startLogin(String username, String password) throws Exception {
+    String body = mapper.writeValueAsString(Map.of("username", username, "password", password));
+    return mockMvc.perform(post("/auth/login")
+            .header("Host", "default.yourblog.com")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(request().asyncStarted())
+        .andReturn();
   }
 
   @Test
@@ -59,17 +99,54 @@ class AuthControllerWebMvcTest {
     when(passwordEncoder.matches(eq("password"), anyString())).thenReturn(true);
     when(jwtService.issueToken(eq(tenantId), eq("admin"), eq(List.of("ROLE_ADMIN")))).thenReturn("test.jwt.token");
 
-    String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "password"));
-
-    mockMvc.perform(post("/auth/login")
-            .header("Host", "default.yourblog.com")
-            .contentType(MediaType.APPLICATION_JSON)
-            .content(body))
+    mockMvc.perform(asyncDispatch(startLogin("admin", "password")))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.token").value("test.jwt.token"))
         .andExpect(jsonPath("$.tokenType").value("Bearer"));
   }
 
+  @Test
+  void login_outdatedHash_isUpgradedInBackground() throws Exception {
+    UUID userId = UUID.randomUUID();
+    User user = new User();
+    user.setId(userId);
+    user.setRoles("ROLE_ADMIN");
+    user.setUsername("admin");
+    user.setPasswordHash("$2a$10$legacy");
+
+    when(userRepository.findByUsernameIgnoreCase(eq("admin"))).thenReturn(Optional.of(user));
+    when(passwordEncoder.matches(eq("password"), eq("$2a$10$legacy"))).thenReturn(true);
+    when(passwordEncoder.upgradeEncoding(eq("$2a$10$legacy"))).thenReturn(true);
+    when(passwordEncoder.encode(eq("password"))).thenReturn("{bcrypt}$2a$12$upgraded");
+    when(jwtService.issueToken(eq(tenantId), eq("admin"), eq(List.of("ROLE_ADMIN")))).thenReturn("test.jwt.token");
+    doAnswer(inv -> {
+      inv.<Runnable>getArgument(0).run();
+      return null;
+    }).when(tenantTaskExecutor).execute(any());
+
+    mockMvc.perform(asyncDispatch(startLogin("admin", "password")))
+        .andExpect(status().isOk());
+
+    verify(userRepository).updatePasswordHash(eq(userId), eq("$2a$10$legacy"), eq("{bcrypt}$2a$12$upgraded"), any());
+  }
+
+  @Test
+  void login_currentHash_isNotRewritten() throws Exception {
+    User user = new User();
+    user.setRoles("ROLE_ADMIN");
+    user.setUsername("admin");
+    user.setPasswordHash("{bcrypt}$2a$10$current");
+
+    when(userRepository.findByUsernameIgnoreCase(eq("admin"))).thenReturn(Optional.of(user));
+    when(passwordEncoder.matches(eq("password"), anyString())).thenReturn(true);
+    when(jwtService.issueToken(eq(tenantId), eq("admin"), eq(List.of("ROLE_ADMIN")))).thenReturn("test.jwt.token");
+
+    mockMvc.perform(asyncDispatch(startLogin("admin", "password")))
+        .andExpect(status().isOk());
+
+    verify(tenantTaskExecutor, never()).execute(any());
+  }
+
   @Test
   void login_invalidCredentials_returns401() throws Exception {
     User user = new User();
@@ -80,12 +157,53 @@ class AuthControllerWebMvcTest {
     when(userRepository.findByUsernameIgnoreCase(eq("admin"))).thenReturn(Optional.of(user));
     when(passwordEncoder.matches(eq("wrong"), anyString())).thenReturn(false);
 
-    String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "wrong"));
+    mockMvc.perform(asyncDispatch(startLogin("admin", "wrong")))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void login_unknownUser_checksDummyHashAndReturns401() throws Exception {
+    when(userRepository.findByUsernameIgnoreCase(eq("ghost"))).thenReturn(Optional.empty());
+
+    mockMvc.perform(asyncDispatch(startLogin("ghost", "password")))
+        .andExpect(status().isUnauthorized());
+
+    verify(passwordEncoder).matches(eq("password"), any());
+  }
+
+  @Test
+  void login_throttled_returns429WithRetryAfter() throws Exception {
+    doThrow(new LoginThrottledException(Duration.ofMillis(1500)))
+        .when(loginAttemptThrottle).acquire(eq(tenantId), eq("admin"));
+
+    String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "password"));
 
     mockMvc.perform(post("/auth/login")
             .header("Host", "default.yourblog.com")
             .contentType(MediaType.APPLICATION_JSON)
             .content(body))
-        .andExpect(status().isUnauthorized());
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "2"))
+        .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+
+    verify(userRepository, never()).findByUsernameIgnoreCase(anyString());
+  }
+
+  @Test
+  void login_hashPoolFull_returns503WithRetryAfter() throws Exception {
+    PasswordHashingExecutor busy = mock(PasswordHashingExecutor.class);
+    when(busy.check(anyString(), any())).thenThrow(new PasswordHashingBusyException(Duration.ofSeconds(1)));
+    setupController(busy);
+    when(userRepository.findByUsernameIgnoreCase(eq("admin"))).thenReturn(Optional.empty());
+
+    String body = mapper.writeValueAsString(Map.of("username", "admin", "password", "password"));
+
+    mockMvc.perform(post("/auth/login")
+            .header("Host", "default.yourblog.com")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"))
+        .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
   }
 }
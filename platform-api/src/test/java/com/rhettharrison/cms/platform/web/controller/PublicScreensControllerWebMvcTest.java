@@ -0,0 +1,219 @@
+package com.rhettharrison.cms.platform.web.controller;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.PublishedScreenJson;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenVersionView;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.ScreenResponseBody;
+import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PublicScreensControllerWebMvcTest {
+
+  private MockMvc mockMvc;
+
+  private final ScreenRepository screenRepository = Mockito.mock(ScreenRepository.class);
+  private final ScreenMapper screenMapper = Mockito.mock(ScreenMapper.class);
+  private final ScreenBulkRepository screenBulkRepository = Mockito.mock(ScreenBulkRepository.class);
+  private final PublishedScreenCache publishedScreenCache =
+      new PublishedScreenCache(16, 1024 * 1024, Duration.ofHours(1), Duration.ofSeconds(30));
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() {
+    TenantContext.setTenantId(tenantId);
+    PublicScreensController controller =
+        new PublicScreensController(screenRepository, screenMapper, publishedScreenCache, screenBulkRepository, false);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @AfterEach
+  void clear() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void getByPath_servesPreSerializedBodyWithETagAndLength() throws Exception {
+    Screen screen = publishedScreen();
+    ScreenDto dto = new ScreenDto();
+    dto.setId(UUID.randomUUID());
+    dto.setPath("/about");
+    dto.setType(ScreenType.MARKDOWN);
+    dto.setStatus(ScreenStatus.PUBLISHED);
+    dto.setContent("{\"markdown\":\"# Hello\"}");
+    when(screenRepository.findByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(screen));
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(dto);
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/api/v1/screens").param("path", "/About/"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+          .andExpect(header().string("ETag", ScreenResponseBody.eTagFor(screen.getId(), screen.getUpdatedAt())))
+          .andExpect(header().exists("Last-Modified"))
+          .andExpect(header().exists("Content-Length"))
+          .andExpect(jsonPath("$.path").value("/about"))
+          .andExpect(jsonPath("$.content").value("{\"markdown\":\"# Hello\"}"));
+    }
+
+    // Second request is served from the byte cache
+    verify(screenRepository, times(1)).findByPathAndStatus("/about", ScreenStatus.PUBLISHED);
+    verify(screenMapper, times(1)).toDto(any(Screen.class));
+  }
+
+  @Test
+  void getByPath_withSqlJson_servesDatabaseBytesWithoutLoadingEntity() throws Exception {
+    PublicScreensController controller =
+        new PublicScreensController(screenRepository, screenMapper, publishedScreenCache, screenBulkRepository, true);
+    MockMvc sqlJsonMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    UUID screenId = UUID.randomUUID();
+    Instant updatedAt = Instant.parse("2026-01-02T03:04:05Z");
+    byte[] json = "{\"id\" : \"%s\", \"path\" : \"/about\", \"content\" : \"{\\\"markdown\\\": \\\"# Hello\\\"}\"}"
+        .formatted(screenId).getBytes(StandardCharsets.UTF_8);
+    when(screenBulkRepository.findPublishedJson(tenantId, "/about"))
+        .thenReturn(Optional.of(new PublishedScreenJson(screenId, updatedAt, json)));
+
+    for (int i = 0; i < 2; i++) {
+      sqlJsonMvc.perform(get("/api/v1/screens").param("path", "/about"))
+          .andExpect(status().isOk())
+          .andExpect(header().string("ETag", ScreenResponseBody.eTagFor(screenId, updatedAt)))
+          .andExpect(header().string("Content-Length", String.valueOf(json.length)))
+          .andExpect(content().bytes(json))
+          .andExpect(jsonPath("$.content").value("{\"markdown\": \"# Hello\"}"));
+    }
+
+    verify(screenBulkRepository, times(1)).findPublishedJson(tenantId, "/about");
+    verify(screenRepository, never()).findByPathAndStatus(any(), any());
+    verify(screenMapper, never()).toDto(any(Screen.class));
+  }
+
+  @Test
+  void getByPath_matchingIfNoneMatch_returns304FromCachedEntry() throws Exception {
+    Screen screen = publishedScreen();
+    when(screenRepository.findByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(screen));
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(new ScreenDto());
+    String eTag = ScreenResponseBody.eTagFor(screen.getId(), screen.getUpdatedAt());
+
+    mockMvc.perform(get("/api/v1/screens").param("path", "/about"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/screens").param("path", "/about").header("If-None-Match", eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", eTag))
+        .andExpect(content().bytes(new byte[0]));
+
+    verify(screenRepository, never()).findVersionByPathAndStatus(any(), any());
+  }
+
+  @Test
+  void getByPath_coldCacheRevalidation_usesVersionLookupWithoutLoadingContent() throws Exception {
+    Screen screen = publishedScreen();
+    ScreenVersionView version = Mockito.mock(ScreenVersionView.class);
+    when(version.getId()).thenReturn(screen.getId());
+    when(version.getUpdatedAt()).thenReturn(screen.getUpdatedAt());
+    when(screenRepository.findVersionByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(version));
+
+    mockMvc.perform(get("/api/v1/screens").param("path", "/about")
+            .header("If-None-Match", ScreenResponseBody.eTagFor(screen.getId(), screen.getUpdatedAt())))
+        .andExpect(status().isNotModified());
+
+    verify(screenRepository, never()).findByPathAndStatus(any(), any());
+  }
+
+  @Test
+  void getByPath_staleIfNoneMatch_returnsFullBody() throws Exception {
+    Screen screen = publishedScreen();
+    ScreenVersionView version = Mockito.mock(ScreenVersionView.class);
+    when(version.getId()).thenReturn(screen.getId());
+    when(version.getUpdatedAt()).thenReturn(screen.getUpdatedAt());
+    when(screenRepository.findVersionByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(version));
+    when(screenRepository.findByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(screen));
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(new ScreenDto());
+
+    mockMvc.perform(get("/api/v1/screens").param("path", "/about").header("If-None-Match", "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", ScreenResponseBody.eTagFor(screen.getId(), screen.getUpdatedAt())));
+  }
+
+  @Test
+  void getByPath_coldRevalidation_setsValidatorsFromServedBody_whenRowChangedAfterVersionLookup() throws Exception {
+    Screen screen = publishedScreen();
+    Instant versionSeen = screen.getUpdatedAt().minusSeconds(60);
+    ScreenVersionView version = Mockito.mock(ScreenVersionView.class);
+    when(version.getId()).thenReturn(screen.getId());
+    when(version.getUpdatedAt()).thenReturn(versionSeen);
+    when(screenRepository.findVersionByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(version));
+    when(screenRepository.findByPathAndStatus("/about", ScreenStatus.PUBLISHED)).thenReturn(Optional.of(screen));
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(new ScreenDto());
+
+    mockMvc.perform(get("/api/v1/screens").param("path", "/about").header("If-None-Match", "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", ScreenResponseBody.eTagFor(screen.getId(), screen.getUpdatedAt())))
+        .andExpect(header().dateValue("Last-Modified", screen.getUpdatedAt().toEpochMilli()));
+  }
+
+  @Test
+  void getByPath_unknownPath_returns404() throws Exception {
+    when(screenRepository.findByPathAndStatus("/missing", ScreenStatus.PUBLISHED)).thenReturn(Optional.empty());
+
+    mockMvc.perform(get("/api/v1/screens").param("path", "/missing"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getTree_streamsNormalizedSubtreeAsJsonArray() throws Exception {
+    doAnswer(inv -> {
+      Consumer<Screen> consumer = inv.getArgument(2);
+      Screen blog = publishedScreen();
+      blog.setPath("/blog");
+      Screen post = publishedScreen();
+      post.setPath("/blog/first-post");
+      consumer.accept(blog);
+      consumer.accept(post);
+      return null;
+    }).when(screenBulkRepository).forEachPublishedInSubtree(eq(tenantId), eq("/blog"), any());
+
+    mockMvc.perform(get("/api/v1/screens/tree").param("prefix", "/Blog/"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[1].path").value("/blog/first-post"))
+        .andExpect(jsonPath("$[1].content").doesNotExist());
+  }
+
+  private Screen publishedScreen() {
+    Screen screen = new Screen();
+    screen.setId(UUID.randomUUID());
+    screen.setPath("/about");
+    screen.setStatus(ScreenStatus.PUBLISHED);
+    screen.setUpdatedAt(Instant.parse("2026-01-01T12:00:00Z"));
+    return screen;
+  }
+}
@@ -0,0 +1,143 @@
+package com.rhettharrison.cms.platform.web.controller;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.PublishedScreenStats;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.web.cache.SitemapCache;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SitemapControllerWebMvcTest {
+
+  private static final String NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+  private static final Map<String, String> NAMESPACES = Map.of("s", NS);
+  private static final Instant UPDATED = Instant.parse("2026-01-01T12:00:00.123Z");
+
+  private MockMvc mockMvc;
+
+  private final ScreenBulkRepository screenBulkRepository = Mockito.mock(ScreenBulkRepository.class);
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() {
+    TenantContext.setTenantId(tenantId);
+    SitemapController controller = new SitemapController(screenBulkRepository, new SitemapCache(1024 * 1024), 2);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @AfterEach
+  void clear() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void sitemap_smallTenant_streamsUrlsetAndServesRepeatFromCache() throws Exception {
+    when(screenBulkRepository.publishedIndexableStats(tenantId)).thenReturn(new PublishedScreenStats(2, UPDATED));
+    stubPage("", "/", "/about us");
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/sitemap.xml").header("Host", "default.yourblog.com"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith("application/xml"))
+          .andExpect(xpath("/s:urlset/s:url", NAMESPACES).nodeCount(2))
+          .andExpect(xpath("/s:urlset/s:url[2]/s:loc", NAMESPACES).string("http://default.yourblog.com/about%20us"))
+          .andExpect(xpath("/s:urlset/s:url[2]/s:lastmod", NAMESPACES).string("2026-01-01T12:00:00Z"));
+    }
+
+    verify(screenBulkRepository, times(1)).forEachPublishedIndexable(eq(tenantId), anyString(), anyInt(), any());
+  }
+
+  @Test
+  void sitemap_changedStats_regenerates() throws Exception {
+    when(screenBulkRepository.publishedIndexableStats(tenantId))
+        .thenReturn(new PublishedScreenStats(1, UPDATED), new PublishedScreenStats(1, UPDATED.plusSeconds(60)));
+    stubPage("", "/");
+
+    mockMvc.perform(get("/sitemap.xml")).andExpect(status().isOk());
+    mockMvc.perform(get("/sitemap.xml")).andExpect(status().isOk());
+
+    verify(screenBulkRepository, times(2)).forEachPublishedIndexable(eq(tenantId), anyString(), anyInt(), any());
+  }
+
+  @Test
+  void sitemap_largeTenant_returnsIndexAndShards() throws Exception {
+    when(screenBulkRepository.publishedIndexableStats(tenantId)).thenReturn(new PublishedScreenStats(5, UPDATED));
+    when(screenBulkRepository.publishedIndexableShardStarts(tenantId, 2)).thenReturn(List.of("", "/b", "/d"));
+    stubPage("/b", "/c", "/d");
+
+    mockMvc.perform(get("/sitemap.xml"))
+        .andExpect(status().isOk())
+        .andExpect(xpath("/s:sitemapindex/s:sitemap", NAMESPACES).nodeCount(3))
+        .andExpect(xpath("/s:sitemapindex/s:sitemap[3]/s:loc", NAMESPACES).string("http://localhost/sitemaps/3.xml"));
+
+    mockMvc.perform(get("/sitemaps/2.xml"))
+        .andExpect(status().isOk())
+        .andExpect(xpath("/s:urlset/s:url[1]/s:loc", NAMESPACES).string("http://localhost/c"));
+
+    mockMvc.perform(get("/sitemaps/4.xml"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void sitemapShards_seekFromCachedShardStarts() throws Exception {
+    when(screenBulkRepository.publishedIndexableStats(tenantId)).thenReturn(new PublishedScreenStats(5, UPDATED));
+    when(screenBulkRepository.publishedIndexableShardStarts(tenantId, 2)).thenReturn(List.of("", "/b", "/d"));
+    stubPage("", "/a", "/b");
+    stubPage("/b", "/c", "/d");
+    stubPage("/d", "/e");
+
+    mockMvc.perform(get("/sitemaps/1.xml"))
+        .andExpect(xpath("/s:urlset/s:url[1]/s:loc", NAMESPACES).string("http://localhost/a"));
+    mockMvc.perform(get("/sitemaps/2.xml"))
+        .andExpect(xpath("/s:urlset/s:url[1]/s:loc", NAMESPACES).string("http://localhost/c"));
+    mockMvc.perform(get("/sitemaps/3.xml"))
+        .andExpect(xpath("/s:urlset/s:url", NAMESPACES).nodeCount(1))
+        .andExpect(xpath("/s:urlset/s:url[1]/s:loc", NAMESPACES).string("http://localhost/e"));
+
+    // One pass over the keys serves every shard while the stats are unchanged
+    verify(screenBulkRepository, times(1)).publishedIndexableShardStarts(tenantId, 2);
+  }
+
+  @Test
+  void sitemapShard_zero_returns404() throws Exception {
+    mockMvc.perform(get("/sitemaps/0.xml"))
+        .andExpect(status().isNotFound());
+
+    verify(screenBulkRepository, never()).publishedIndexableStats(any());
+  }
+
+  private void stubPage(String afterKey, String... paths) {
+    doAnswer(inv -> {
+      Consumer<Screen> consumer = inv.getArgument(3);
+      for (String path : paths) {
+        Screen s = new Screen();
+        s.setPath(path);
+        s.setUpdatedAt(UPDATED);
+        consumer.accept(s);
+      }
+      return null;
+    }).when(screenBulkRepository).forEachPublishedIndexable(eq(tenantId), eq(afterKey), eq(2), any());
+  }
+}
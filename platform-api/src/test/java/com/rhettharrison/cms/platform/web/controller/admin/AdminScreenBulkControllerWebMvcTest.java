@@ -0,0 +1,144 @@
+package com.rhettharrison.cms.platform.web.controller.admin;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.domain.model.screen.Screen;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenBulkRepository;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
+import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AdminScreenBulkControllerWebMvcTest {
+
+  private MockMvc mockMvc;
+
+  private final ScreenBulkRepository screenBulkRepository = Mockito.mock(ScreenBulkRepository.class);
+  private final ScreenMapper screenMapper = Mockito.mock(ScreenMapper.class);
+  private final PublishedScreenCache publishedScreenCache = Mockito.mock(PublishedScreenCache.class);
+  private final RedirectTable redirectTable = Mockito.mock(RedirectTable.class);
+
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setup() {
+    TenantContext.setTenantId(tenantId);
+    AdminScreenBulkController controller = new AdminScreenBulkController(screenBulkRepository, screenMapper,
+        publishedScreenCache, redirectTable, Validation.buildDefaultValidatorFactory().getValidator(), 2, 100);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @AfterEach
+  void clear() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void import_ndjson_reportsPerRowResultsAndInsertsInChunks() throws Exception {
+    // First chunk: both inserted; second chunk: duplicate path conflicts
+    when(screenBulkRepository.insertBatch(eq(tenantId), anyList())).thenReturn(new int[] {1, 1}, new int[] {0});
+
+    String body = String.join("\n",
+        "{\"path\":\"/About/\",\"type\":\"MARKDOWN\",\"status\":\"PUBLISHED\",\"content\":\"{}\"}",
+        "{\"path\":\"/old\",\"type\":\"REDIRECT\",\"status\":\"PUBLISHED\",\"redirectTargetUrl\":\"/new\",\"redirectStatus\":301}",
+        "{\"path\":\"/bad\",\"type\":\"MARKDOWN\",\"status\":\"DRAFT\"}",
+        "{\"path\":\"/about\",\"type\":\"MARKDOWN\",\"status\":\"DRAFT\",\"content\":\"{}\"}");
+
+    mockMvc.perform(post("/api/v1/admin/screens/import")
+            .contentType(AdminScreenBulkController.NDJSON)
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(2))
+        .andExpect(jsonPath("$.conflicts").value(1))
+        .andExpect(jsonPath("$.invalid").value(1))
+        .andExpect(jsonPath("$.rows[0].path").value("/about"))
+        .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+        .andExpect(jsonPath("$.rows[2].status").value("INVALID"))
+        .andExpect(jsonPath("$.rows[2].error").value("content is required for non-REDIRECT screen types"))
+        .andExpect(jsonPath("$.rows[3].status").value("CONFLICT"));
+
+    verify(screenBulkRepository, times(2)).insertBatch(eq(tenantId), anyList());
+    verify(publishedScreenCache).invalidateTenant(tenantId);
+    verify(redirectTable).invalidateTenant(tenantId);
+  }
+
+  @Test
+  void import_jsonArray_badEnumIsReportedAndLaterRowsStillProcessed() throws Exception {
+    when(screenBulkRepository.insertBatch(eq(tenantId), anyList())).thenReturn(new int[] {1});
+
+    String body = "[" +
+        "{\"path\":\"/x\",\"type\":\"NOPE\",\"status\":\"DRAFT\",\"content\":\"{}\"}," +
+        "{\"path\":\"/y\",\"type\":\"MARKDOWN\",\"status\":\"DRAFT\",\"content\":\"{}\"}" +
+        "]";
+
+    mockMvc.perform(post("/api/v1/admin/screens/import")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.invalid").value(1))
+        .andExpect(jsonPath("$.created").value(1))
+        .andExpect(jsonPath("$.rows[1].path").value("/y"));
+  }
+
+  @Test
+  void import_invalidJsonContent_isRejectedBeforeInsert() throws Exception {
+    mockMvc.perform(post("/api/v1/admin/screens/import")
+            .contentType(AdminScreenBulkController.NDJSON)
+            .content("{\"path\":\"/x\",\"type\":\"MARKDOWN\",\"status\":\"DRAFT\",\"content\":\"not json\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.rows[0].error").value("content must be valid JSON"));
+
+    verify(screenBulkRepository, never()).insertBatch(any(), anyList());
+    verify(publishedScreenCache, never()).invalidateTenant(any());
+  }
+
+  @Test
+  void export_streamsOneJsonObjectPerLine() throws Exception {
+    doAnswer(inv -> {
+      Consumer<Screen> consumer = inv.getArgument(1);
+      consumer.accept(new Screen());
+      consumer.accept(new Screen());
+      return null;
+    }).when(screenBulkRepository).forEachScreen(eq(tenantId), any());
+    ScreenDto dto = new ScreenDto();
+    dto.setPath("/about");
+    dto.setType(ScreenType.MARKDOWN);
+    dto.setStatus(ScreenStatus.PUBLISHED);
+    dto.setContent("{}");
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(dto);
+
+    String body = mockMvc.perform(get("/api/v1/admin/screens/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(AdminScreenBulkController.NDJSON))
+        .andReturn().getResponse().getContentAsString();
+
+    List<String> lines = body.lines().toList();
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0)).contains("\"path\":\"/about\"");
+  }
+}
@@ -1,12 +1,18 @@
 package com.rhettharrison.cms.platform.web.controller.admin;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
 import com.rhettharrison.cms.platform.domain.model.screen.Screen;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenRepository;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenSummaryView;
 import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.web.cache.PublishedScreenCache;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
 import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import com.rhettharrison.cms.platform.web.dto.admin.ScreenSummaryDto;
 import com.rhettharrison.cms.platform.web.mapper.ScreenMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -15,11 +21,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,13 +42,23 @@ class AdminScreensControllerWebMvcTest {
 
   private final ScreenRepository screenRepository = Mockito.mock(ScreenRepository.class);
   private final ScreenMapper screenMapper = Mockito.mock(ScreenMapper.class);
+  private final PublishedScreenCache publishedScreenCache = Mockito.mock(PublishedScreenCache.class);
+  private final RedirectTable redirectTable = Mockito.mock(RedirectTable.class);
+
+  private final UUID tenantId = UUID.randomUUID();
 
   @BeforeEach
   void setup() {
-    AdminScreensController controller = new AdminScreensController(screenRepository, screenMapper);
+    TenantContext.setTenantId(tenantId);
+    AdminScreensController controller = new AdminScreensController(screenRepository, screenMapper, publishedScreenCache, redirectTable);
     this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
   }
 
+  @AfterEach
+  void clear() {
+    TenantContext.clear();
+  }
+
   @Test
   void create_markdown_success_returns201AndDto() throws Exception {
     UUID id = UUID.randomUUID();
@@ -126,10 +147,81 @@ class AdminScreensControllerWebMvcTest {
     UUID id = UUID.randomUUID();
     Screen s = new Screen();
     s.setId(id);
+    s.setPath("/gone");
     when(screenRepository.findById(id)).thenReturn(Optional.of(s));
 
     mockMvc.perform(delete("/api/v1/admin/screens/" + id)
             .header("Host", "default.yourblog.com"))
         .andExpect(status().isNoContent());
+
+    Mockito.verify(redirectTable).refresh(tenantId, List.of("/gone"));
+  }
+
+  @Test
+  void update_pathChange_invalidatesOldAndNewCachedPaths() throws Exception {
+    UUID id = UUID.randomUUID();
+    Screen s = new Screen();
+    s.setId(id);
+    s.setPath("/old");
+    s.setType(ScreenType.MARKDOWN);
+    s.setStatus(ScreenStatus.PUBLISHED);
+    s.setContent("{}");
+    when(screenRepository.findById(id)).thenReturn(Optional.of(s));
+    when(screenRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    when(screenMapper.toDto(any(Screen.class))).thenReturn(new ScreenDto());
+
+    mockMvc.perform(put("/api/v1/admin/screens/" + id)
+            .header("Host", "default.yourblog.com")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"path\":\"/New\"}"))
+        .andExpect(status().isOk());
+
+    Mockito.verify(publishedScreenCache).invalidate(tenantId, "/old");
+    Mockito.verify(publishedScreenCache).invalidate(tenantId, "/new");
+    Mockito.verify(redirectTable).refresh(tenantId, List.of("/old", "/new"));
+  }
+
+  @Test
+  void list_returnsPageWithCursorWhenMoreRowsExist() throws Exception {
+    List<ScreenSummaryView> rows = List.of(summary("/a"), summary("/b"), summary("/c"));
+    when(screenRepository.findSummariesAfter(eq(tenantId), isNull(), isNull(), isNull(), any())).thenReturn(rows);
+    when(screenMapper.toSummaryDto(any())).thenAnswer(inv -> {
+      ScreenSummaryDto dto = new ScreenSummaryDto();
+      dto.setPath(((ScreenSummaryView) inv.getArgument(0)).getPath());
+      return dto;
+    });
+
+    String expectedCursor = Base64.getUrlEncoder().withoutPadding().encodeToString("/b".getBytes(StandardCharsets.UTF_8));
+    mockMvc.perform(get("/api/v1/admin/screens").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(2))
+        .andExpect(jsonPath("$.items[1].path").value("/b"))
+        .andExpect(jsonPath("$.nextCursor").value(expectedCursor));
+  }
+
+  @Test
+  void list_lastPageHasNoCursorAndPassesDecodedKeyAndFilters() throws Exception {
+    String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("/b".getBytes(StandardCharsets.UTF_8));
+    List<ScreenSummaryView> rows = List.of(summary("/c"));
+    when(screenRepository.findSummariesAfter(eq(tenantId), eq("/b"), eq(ScreenStatus.PUBLISHED), isNull(), any()))
+        .thenReturn(rows);
+    when(screenMapper.toSummaryDto(any())).thenReturn(new ScreenSummaryDto());
+
+    mockMvc.perform(get("/api/v1/admin/screens").param("cursor", cursor).param("status", "PUBLISHED"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(1))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void list_invalidCursor_returns400() throws Exception {
+    mockMvc.perform(get("/api/v1/admin/screens").param("cursor", "!!!"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private ScreenSummaryView summary(String path) {
+    ScreenSummaryView v = Mockito.mock(ScreenSummaryView.class);
+    when(v.getPath()).thenReturn(path);
+    return v;
   }
 }
@@ -0,0 +1,81 @@
+package com.rhettharrison.cms.platform.web.filter;
+
+import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.web.cache.RedirectTable;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RedirectFilterTest {
+
+  private final RedirectTable redirectTable = mock(RedirectTable.class);
+  private final FilterChain filterChain = mock(FilterChain.class);
+  private final UUID tenantId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    TenantContext.setTenantId(tenantId);
+    when(redirectTable.lookup(any(), any())).thenReturn(Optional.empty());
+    when(redirectTable.lookup(tenantId, "/old")).thenReturn(Optional.of(new RedirectTable.Redirect("/new", 301)));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void redirectsMatchingPathAndKeepsQueryString() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/Old/");
+    request.setQueryString("utm_source=mail");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new RedirectFilter(redirectTable, true).doFilter(request, response, filterChain);
+
+    assertEquals(301, response.getStatus());
+    assertEquals("/new?utm_source=mail", response.getHeader("Location"));
+    verifyNoInteractions(filterChain);
+  }
+
+  @Test
+  void passesThroughWhenNoRedirectMatches() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/about");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new RedirectFilter(redirectTable, true).doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+  }
+
+  @Test
+  void neverRedirectsApiPaths() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/screens");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new RedirectFilter(redirectTable, true).doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verify(redirectTable, never()).lookup(any(), any());
+  }
+
+  @Test
+  void disabledByDefault() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/old");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new RedirectFilter(redirectTable, false).doFilter(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verify(redirectTable, never()).lookup(any(), any());
+  }
+}
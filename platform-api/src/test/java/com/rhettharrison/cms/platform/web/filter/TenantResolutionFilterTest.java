@@ -1,10 +1,12 @@
 package com.rhettharrison.cms.platform.web.filter;
 
 import com.rhettharrison.cms.platform.common.tenant.TenantContext;
+import com.rhettharrison.cms.platform.common.tenant.TenantResolutionCache;
 import com.rhettharrison.cms.platform.domain.model.Tenant;
 import com.rhettharrison.cms.platform.domain.model.TenantDomain;
 import com.rhettharrison.cms.platform.domain.model.TenantDomainRepository;
 import com.rhettharrison.cms.platform.domain.model.TenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,11 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -48,7 +53,8 @@ class TenantResolutionFilterTest {
 
   @BeforeEach
   void setUp() {
-    filter = new TenantResolutionFilter(tenantRepository, tenantDomainRepository, environment);
+    TenantResolutionCache cache = new TenantResolutionCache(1000, Duration.ofMinutes(5), Duration.ofSeconds(30), new SimpleMeterRegistry());
+    filter = new TenantResolutionFilter(tenantRepository, tenantDomainRepository, environment, cache);
     lenient().when(environment.getActiveProfiles()).thenReturn(new String[]{});
   }
 
@@ -268,4 +274,40 @@ class TenantResolutionFilterTest {
 
     assertNull(TenantContext.getTenantIdOrNull());
   }
+
+  @Test
+  void doFilterInternal_shouldServeRepeatedHostFromCache() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    TenantDomain tenantDomain = mock(TenantDomain.class);
+    when(tenantDomain.getTenantId()).thenReturn(tenantId);
+
+    when(request.getHeader("Host")).thenReturn("cached.example.com");
+    when(tenantDomainRepository.findByDomain("cached.example.com"))
+        .thenReturn(Optional.of(tenantDomain));
+
+    filter.doFilterInternal(request, response, filterChain);
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(tenantDomainRepository, times(1)).findByDomain("cached.example.com");
+    verify(filterChain, times(2)).doFilter(request, response);
+  }
+
+  @Test
+  void doFilterInternal_shouldCacheUnknownHostAsNegativeLookup() throws Exception {
+    when(request.getHeader("Host")).thenReturn("random.yourblog.com");
+    when(tenantDomainRepository.findByDomain("random.yourblog.com")).thenReturn(Optional.empty());
+    when(tenantRepository.findBySlug("random")).thenReturn(Optional.empty());
+
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    MockHttpServletResponse second = new MockHttpServletResponse();
+
+    filter.doFilterInternal(request, first, filterChain);
+    filter.doFilterInternal(request, second, filterChain);
+
+    assertEquals(HttpServletResponse.SC_NOT_FOUND, first.getStatus());
+    assertEquals(HttpServletResponse.SC_NOT_FOUND, second.getStatus());
+    verify(tenantDomainRepository, times(1)).findByDomain("random.yourblog.com");
+    verify(tenantRepository, times(1)).findBySlug("random");
+    verify(filterChain, never()).doFilter(any(), any());
+  }
 }
@@ -0,0 +1,54 @@
+package com.rhettharrison.cms.platform.web.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenStatus;
+import com.rhettharrison.cms.platform.domain.model.screen.ScreenType;
+import com.rhettharrison.cms.platform.web.dto.ScreenDto;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ScreenJsonWriterTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  void toJsonBytes_writesAllFieldsWithContentAsEscapedString() throws Exception {
+    UUID id = UUID.randomUUID();
+    ScreenDto dto = new ScreenDto();
+    dto.setId(id);
+    dto.setPath("/about");
+    dto.setType(ScreenType.MARKDOWN);
+    dto.setStatus(ScreenStatus.PUBLISHED);
+    dto.setContent("{\"markdown\":\"# Hello \\u00e9\"}");
+    dto.setPublishedAt(Instant.parse("2026-01-01T12:00:00Z"));
+
+    Map<?, ?> json = mapper.readValue(ScreenJsonWriter.toJsonBytes(dto), Map.class);
+
+    assertEquals(id.toString(), json.get("id"));
+    assertEquals("/about", json.get("path"));
+    assertEquals("MARKDOWN", json.get("type"));
+    assertEquals("PUBLISHED", json.get("status"));
+    assertEquals(dto.getContent(), json.get("content"));
+    assertEquals("2026-01-01T12:00:00Z", json.get("publishedAt"));
+    assertTrue(json.containsKey("redirectTargetUrl"));
+    assertNull(json.get("redirectStatus"));
+  }
+
+  @Test
+  void toJsonBytes_writesRedirectFields() throws Exception {
+    ScreenDto dto = new ScreenDto();
+    dto.setPath("/old");
+    dto.setType(ScreenType.REDIRECT);
+    dto.setRedirectTargetUrl("https://example.com/new");
+    dto.setRedirectStatus(301);
+
+    Map<?, ?> json = mapper.readValue(ScreenJsonWriter.toJsonBytes(dto), Map.class);
+
+    assertEquals("https://example.com/new", json.get("redirectTargetUrl"));
+    assertEquals(301, json.get("redirectStatus"));
+  }
+}